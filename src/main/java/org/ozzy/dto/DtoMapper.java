@@ -31,6 +31,16 @@ public final class DtoMapper {
         dto.setAuthUsername(gateway.getAuthUsername());
         dto.setAuthPassword(gateway.getAuthPassword());
         dto.setAuthToken(gateway.getAuthToken());
+        dto.setHttp2Enabled(gateway.getHttp2Enabled());
+        dto.setHttp2MaxConcurrentStreams(gateway.getHttp2MaxConcurrentStreams());
+        dto.setHttp2InitialWindowSize(gateway.getHttp2InitialWindowSize());
+        dto.setHttp2HeaderTableSize(gateway.getHttp2HeaderTableSize());
+        dto.setRateLimitPerSecond(gateway.getRateLimitPerSecond());
+        dto.setRateLimitBurst(gateway.getRateLimitBurst());
+        dto.setMaxConcurrentCalls(gateway.getMaxConcurrentCalls());
+        dto.setClientRateLimitPerSecond(gateway.getClientRateLimitPerSecond());
+        dto.setClientRateLimitBurst(gateway.getClientRateLimitBurst());
+        dto.setClientMaxConcurrentCalls(gateway.getClientMaxConcurrentCalls());
         dto.setTools(toGatewayToolRefs(gateway.getTools()));
         return dto;
     }
@@ -57,6 +67,13 @@ public final class DtoMapper {
             dto.setToolName(ref.getToolName());
             dto.setValidationMode(ref.getValidationMode());
             dto.setValidationPeriodSeconds(ref.getValidationPeriodSeconds());
+            dto.setIdempotent(ref.getIdempotent());
+            dto.setCacheTtlSeconds(ref.getCacheTtlSeconds());
+            dto.setCacheMaxEntryBytes(ref.getCacheMaxEntryBytes());
+            dto.setCacheMaxBytes(ref.getCacheMaxBytes());
+            dto.setRateLimitPerSecond(ref.getRateLimitPerSecond());
+            dto.setRateLimitBurst(ref.getRateLimitBurst());
+            dto.setMaxConcurrentCalls(ref.getMaxConcurrentCalls());
             results.add(dto);
         }
         return results;
@@ -86,6 +103,14 @@ public final class DtoMapper {
         dto.setOauthClientId(server.getOauthClientId());
         dto.setOauthAccessToken(server.getOauthAccessToken());
         dto.setOauthRefreshToken(server.getOauthRefreshToken());
+        dto.setMaxPoolSize(server.getMaxPoolSize());
+        dto.setKeepAliveTimeoutSeconds(server.getKeepAliveTimeoutSeconds());
+        dto.setPipelining(server.getPipelining());
+        dto.setConnectTimeoutMillis(server.getConnectTimeoutMillis());
+        dto.setIdleTimeoutSeconds(server.getIdleTimeoutSeconds());
+        dto.setHttp2(server.getHttp2());
+        dto.setHttp2MaxConcurrentStreams(server.getHttp2MaxConcurrentStreams());
+        dto.setReplicas(server.getReplicas() == null ? null : new ArrayList<>(server.getReplicas()));
         dto.setTools(toToolDtos(server.getTools()));
         return dto;
     }
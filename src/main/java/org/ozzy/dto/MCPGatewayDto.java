@@ -10,6 +10,16 @@ public class MCPGatewayDto {
     private String authUsername;
     private String authPassword;
     private String authToken;
+    private Boolean http2Enabled;
+    private Long http2MaxConcurrentStreams;
+    private Integer http2InitialWindowSize;
+    private Long http2HeaderTableSize;
+    private Integer rateLimitPerSecond;
+    private Integer rateLimitBurst;
+    private Integer maxConcurrentCalls;
+    private Integer clientRateLimitPerSecond;
+    private Integer clientRateLimitBurst;
+    private Integer clientMaxConcurrentCalls;
     private java.util.List<GatewayToolRefDto> tools;
 
     public String getId() {
@@ -84,6 +94,86 @@ public class MCPGatewayDto {
         this.authToken = authToken;
     }
 
+    public Boolean getHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public void setHttp2Enabled(Boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public Long getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public void setHttp2MaxConcurrentStreams(Long http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public Integer getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    public void setHttp2InitialWindowSize(Integer http2InitialWindowSize) {
+        this.http2InitialWindowSize = http2InitialWindowSize;
+    }
+
+    public Long getHttp2HeaderTableSize() {
+        return http2HeaderTableSize;
+    }
+
+    public void setHttp2HeaderTableSize(Long http2HeaderTableSize) {
+        this.http2HeaderTableSize = http2HeaderTableSize;
+    }
+
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
+    public Integer getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Integer getClientRateLimitPerSecond() {
+        return clientRateLimitPerSecond;
+    }
+
+    public void setClientRateLimitPerSecond(Integer clientRateLimitPerSecond) {
+        this.clientRateLimitPerSecond = clientRateLimitPerSecond;
+    }
+
+    public Integer getClientRateLimitBurst() {
+        return clientRateLimitBurst;
+    }
+
+    public void setClientRateLimitBurst(Integer clientRateLimitBurst) {
+        this.clientRateLimitBurst = clientRateLimitBurst;
+    }
+
+    public Integer getClientMaxConcurrentCalls() {
+        return clientMaxConcurrentCalls;
+    }
+
+    public void setClientMaxConcurrentCalls(Integer clientMaxConcurrentCalls) {
+        this.clientMaxConcurrentCalls = clientMaxConcurrentCalls;
+    }
+
     public java.util.List<GatewayToolRefDto> getTools() {
         return tools;
     }
@@ -5,6 +5,13 @@ public class GatewayToolRef {
     private String toolName;
     private String validationMode;
     private Long validationPeriodSeconds;
+    private Boolean idempotent;
+    private Long cacheTtlSeconds;
+    private Integer cacheMaxEntryBytes;
+    private Long cacheMaxBytes;
+    private Integer rateLimitPerSecond;
+    private Integer rateLimitBurst;
+    private Integer maxConcurrentCalls;
 
     public GatewayToolRef() {
     }
@@ -45,4 +52,74 @@ public class GatewayToolRef {
     public void setValidationPeriodSeconds(Long validationPeriodSeconds) {
         this.validationPeriodSeconds = validationPeriodSeconds;
     }
+
+    public Boolean getIdempotent() {
+        return idempotent;
+    }
+
+    public void setIdempotent(Boolean idempotent) {
+        this.idempotent = idempotent;
+    }
+
+    public Long getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+
+    public void setCacheTtlSeconds(Long cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+
+    public Integer getCacheMaxEntryBytes() {
+        return cacheMaxEntryBytes;
+    }
+
+    public void setCacheMaxEntryBytes(Integer cacheMaxEntryBytes) {
+        this.cacheMaxEntryBytes = cacheMaxEntryBytes;
+    }
+
+    public Long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(Long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
+    public Integer getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public GatewayToolRef copy() {
+        GatewayToolRef copy = new GatewayToolRef(serverId, toolName);
+        copy.validationMode = validationMode;
+        copy.validationPeriodSeconds = validationPeriodSeconds;
+        copy.idempotent = idempotent;
+        copy.cacheTtlSeconds = cacheTtlSeconds;
+        copy.cacheMaxEntryBytes = cacheMaxEntryBytes;
+        copy.cacheMaxBytes = cacheMaxBytes;
+        copy.rateLimitPerSecond = rateLimitPerSecond;
+        copy.rateLimitBurst = rateLimitBurst;
+        copy.maxConcurrentCalls = maxConcurrentCalls;
+        return copy;
+    }
 }
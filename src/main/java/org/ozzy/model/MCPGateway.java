@@ -22,6 +22,25 @@ public class MCPGateway {
     private String authUsername;
     private String authPassword;
     private String authToken;
+    private Boolean http2Enabled;
+    @Min(1)
+    private Long http2MaxConcurrentStreams;
+    @Min(1)
+    private Integer http2InitialWindowSize;
+    @Min(0)
+    private Long http2HeaderTableSize;
+    @Min(1)
+    private Integer rateLimitPerSecond;
+    @Min(1)
+    private Integer rateLimitBurst;
+    @Min(1)
+    private Integer maxConcurrentCalls;
+    @Min(1)
+    private Integer clientRateLimitPerSecond;
+    @Min(1)
+    private Integer clientRateLimitBurst;
+    @Min(1)
+    private Integer clientMaxConcurrentCalls;
     private List<GatewayToolRef> tools = new ArrayList<>();
 
     public MCPGateway() {
@@ -115,6 +134,54 @@ public class MCPGateway {
         this.authToken = authToken;
     }
 
+    public Integer getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(Integer rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public Integer getRateLimitBurst() {
+        return rateLimitBurst;
+    }
+
+    public void setRateLimitBurst(Integer rateLimitBurst) {
+        this.rateLimitBurst = rateLimitBurst;
+    }
+
+    public Integer getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Integer getClientRateLimitPerSecond() {
+        return clientRateLimitPerSecond;
+    }
+
+    public void setClientRateLimitPerSecond(Integer clientRateLimitPerSecond) {
+        this.clientRateLimitPerSecond = clientRateLimitPerSecond;
+    }
+
+    public Integer getClientRateLimitBurst() {
+        return clientRateLimitBurst;
+    }
+
+    public void setClientRateLimitBurst(Integer clientRateLimitBurst) {
+        this.clientRateLimitBurst = clientRateLimitBurst;
+    }
+
+    public Integer getClientMaxConcurrentCalls() {
+        return clientMaxConcurrentCalls;
+    }
+
+    public void setClientMaxConcurrentCalls(Integer clientMaxConcurrentCalls) {
+        this.clientMaxConcurrentCalls = clientMaxConcurrentCalls;
+    }
+
     public List<GatewayToolRef> getTools() {
         return tools;
     }
@@ -123,6 +190,64 @@ public class MCPGateway {
         this.tools = tools;
     }
 
+    public Boolean getHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public void setHttp2Enabled(Boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public Long getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public void setHttp2MaxConcurrentStreams(Long http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public Integer getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    public void setHttp2InitialWindowSize(Integer http2InitialWindowSize) {
+        this.http2InitialWindowSize = http2InitialWindowSize;
+    }
+
+    public Long getHttp2HeaderTableSize() {
+        return http2HeaderTableSize;
+    }
+
+    public void setHttp2HeaderTableSize(Long http2HeaderTableSize) {
+        this.http2HeaderTableSize = http2HeaderTableSize;
+    }
+
+    public MCPGateway copy() {
+        MCPGateway copy = new MCPGateway(name, status, port, host);
+        copy.id = id;
+        copy.authType = authType;
+        copy.authUsername = authUsername;
+        copy.authPassword = authPassword;
+        copy.authToken = authToken;
+        copy.http2Enabled = http2Enabled;
+        copy.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+        copy.http2InitialWindowSize = http2InitialWindowSize;
+        copy.http2HeaderTableSize = http2HeaderTableSize;
+        copy.rateLimitPerSecond = rateLimitPerSecond;
+        copy.rateLimitBurst = rateLimitBurst;
+        copy.maxConcurrentCalls = maxConcurrentCalls;
+        copy.clientRateLimitPerSecond = clientRateLimitPerSecond;
+        copy.clientRateLimitBurst = clientRateLimitBurst;
+        copy.clientMaxConcurrentCalls = clientMaxConcurrentCalls;
+        copy.tools = new ArrayList<>();
+        if (tools != null) {
+            for (GatewayToolRef ref : tools) {
+                copy.tools.add(ref == null ? null : ref.copy());
+            }
+        }
+        return copy;
+    }
+
     @Override
     public String toString() {
         return "MCPGateway{" +
@@ -132,6 +257,7 @@ public class MCPGateway {
                 ", port=" + port +
                 ", host='" + host + '\'' +
                 ", authType='" + authType + '\'' +
+                ", http2Enabled=" + http2Enabled +
             ", tools=" + tools +
                 '}';
     }
@@ -1,5 +1,7 @@
 package org.ozzy.model;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,6 +33,20 @@ public class MCPServer {
     private String oauthClientId;
     private String oauthAccessToken;
     private String oauthRefreshToken;
+    @Min(1)
+    private Integer maxPoolSize;
+    @Min(0)
+    private Integer keepAliveTimeoutSeconds;
+    private Boolean pipelining;
+    @Min(0)
+    private Integer connectTimeoutMillis;
+    @Min(0)
+    private Integer idleTimeoutSeconds;
+    private Boolean http2;
+    @Min(1)
+    private Integer http2MaxConcurrentStreams;
+    private List<String> replicas;
+    private String toolCatalogHash;
 
     public MCPServer() {
         this.id = UUID.randomUUID().toString();
@@ -208,6 +224,117 @@ public class MCPServer {
         this.protocol = protocol;
     }
 
+    public Integer getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public void setMaxPoolSize(Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    public Integer getKeepAliveTimeoutSeconds() {
+        return keepAliveTimeoutSeconds;
+    }
+
+    public void setKeepAliveTimeoutSeconds(Integer keepAliveTimeoutSeconds) {
+        this.keepAliveTimeoutSeconds = keepAliveTimeoutSeconds;
+    }
+
+    public Boolean getPipelining() {
+        return pipelining;
+    }
+
+    public void setPipelining(Boolean pipelining) {
+        this.pipelining = pipelining;
+    }
+
+    public Integer getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public void setConnectTimeoutMillis(Integer connectTimeoutMillis) {
+        this.connectTimeoutMillis = connectTimeoutMillis;
+    }
+
+    public Integer getIdleTimeoutSeconds() {
+        return idleTimeoutSeconds;
+    }
+
+    public void setIdleTimeoutSeconds(Integer idleTimeoutSeconds) {
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+    }
+
+    public Boolean getHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(Boolean http2) {
+        this.http2 = http2;
+    }
+
+    public Integer getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public void setHttp2MaxConcurrentStreams(Integer http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public List<String> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<String> replicas) {
+        this.replicas = replicas;
+    }
+
+    public String getToolCatalogHash() {
+        return toolCatalogHash;
+    }
+
+    public void setToolCatalogHash(String toolCatalogHash) {
+        this.toolCatalogHash = toolCatalogHash;
+    }
+
+    public MCPServer copy() {
+        MCPServer copy = new MCPServer();
+        copy.id = id;
+        copy.host = host;
+        copy.port = port;
+        copy.authorizationType = authorizationType;
+        copy.clientCert = clientCert;
+        copy.authUsername = authUsername;
+        copy.authPassword = authPassword;
+        copy.authToken = authToken;
+        copy.name = name;
+        copy.type = type;
+        copy.path = path;
+        copy.remotePath = remotePath;
+        copy.protocol = protocol;
+        copy.argument = argument;
+        copy.certificate = certificate;
+        if (tools != null) {
+            copy.tools = new ArrayList<>(tools.size());
+            for (Tool tool : tools) {
+                copy.tools.add(tool == null ? null : tool.copy());
+            }
+        }
+        copy.headers = headers == null ? null : new LinkedHashMap<>(headers);
+        copy.oauthClientId = oauthClientId;
+        copy.oauthAccessToken = oauthAccessToken;
+        copy.oauthRefreshToken = oauthRefreshToken;
+        copy.maxPoolSize = maxPoolSize;
+        copy.keepAliveTimeoutSeconds = keepAliveTimeoutSeconds;
+        copy.pipelining = pipelining;
+        copy.connectTimeoutMillis = connectTimeoutMillis;
+        copy.idleTimeoutSeconds = idleTimeoutSeconds;
+        copy.http2 = http2;
+        copy.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+        copy.replicas = replicas == null ? null : new ArrayList<>(replicas);
+        copy.toolCatalogHash = toolCatalogHash;
+        return copy;
+    }
+
     @Override
     public String toString() {
         return "{" +
@@ -229,6 +356,15 @@ public class MCPServer {
                 "\"headers\": " + headers + "," +
                 "\"oauthAccessToken\": \"" + oauthAccessToken + "\"," +
                 "\"oauthRefreshToken\": \"" + oauthRefreshToken + "\"," +
+                "\"maxPoolSize\": " + maxPoolSize + "," +
+                "\"keepAliveTimeoutSeconds\": " + keepAliveTimeoutSeconds + "," +
+                "\"pipelining\": " + pipelining + "," +
+                "\"connectTimeoutMillis\": " + connectTimeoutMillis + "," +
+                "\"idleTimeoutSeconds\": " + idleTimeoutSeconds + "," +
+                "\"http2\": " + http2 + "," +
+                "\"http2MaxConcurrentStreams\": " + http2MaxConcurrentStreams + "," +
+                "\"replicas\": " + replicas + "," +
+                "\"toolCatalogHash\": \"" + toolCatalogHash + "\"," +
                 "\"tools\": " + tools +
                 '}';
     }
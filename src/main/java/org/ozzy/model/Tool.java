@@ -1,14 +1,18 @@
 package org.ozzy.model;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class Tool {
 
     private String name;
     private String title;
     private String description;
     private InputSchema inputSchema;
+    private JsonNode rawInputSchema;
     private String validationStatus;
     private Long lastValidatedAt;
     private Long firstFailedAt;
+    private String fingerprint;
 
     public String getName() {
         return name;
@@ -42,6 +46,14 @@ public class Tool {
         this.inputSchema = inputSchema;
     }
 
+    public JsonNode getRawInputSchema() {
+        return rawInputSchema;
+    }
+
+    public void setRawInputSchema(JsonNode rawInputSchema) {
+        this.rawInputSchema = rawInputSchema;
+    }
+
     public String getValidationStatus() {
         return validationStatus;
     }
@@ -65,4 +77,26 @@ public class Tool {
     public void setFirstFailedAt(Long firstFailedAt) {
         this.firstFailedAt = firstFailedAt;
     }
-}
\ No newline at end of file
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public Tool copy() {
+        Tool copy = new Tool();
+        copy.name = name;
+        copy.title = title;
+        copy.description = description;
+        copy.inputSchema = inputSchema;
+        copy.rawInputSchema = rawInputSchema;
+        copy.validationStatus = validationStatus;
+        copy.lastValidatedAt = lastValidatedAt;
+        copy.firstFailedAt = firstFailedAt;
+        copy.fingerprint = fingerprint;
+        return copy;
+    }
+}
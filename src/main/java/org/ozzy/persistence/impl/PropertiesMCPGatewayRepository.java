@@ -48,6 +48,16 @@ public class PropertiesMCPGatewayRepository extends PropertiesRepositoryBase imp
             gateway.setAuthUsername(properties.getProperty(buildGatewayKey(id, FIELD_AUTH_USERNAME)));
             gateway.setAuthPassword(decodeSecret(properties.getProperty(buildGatewayKey(id, FIELD_AUTH_PASSWORD))));
             gateway.setAuthToken(decodeSecret(properties.getProperty(buildGatewayKey(id, FIELD_AUTH_TOKEN))));
+            gateway.setHttp2Enabled(readBoolean(properties, buildGatewayKey(id, FIELD_HTTP2_ENABLED)));
+            gateway.setHttp2MaxConcurrentStreams(readLong(properties, buildGatewayKey(id, FIELD_HTTP2_MAX_CONCURRENT_STREAMS)));
+            gateway.setHttp2InitialWindowSize(readInteger(properties, buildGatewayKey(id, FIELD_HTTP2_INITIAL_WINDOW_SIZE)));
+            gateway.setHttp2HeaderTableSize(readLong(properties, buildGatewayKey(id, FIELD_HTTP2_HEADER_TABLE_SIZE)));
+            gateway.setRateLimitPerSecond(readInteger(properties, buildGatewayKey(id, FIELD_RATE_LIMIT_PER_SECOND)));
+            gateway.setRateLimitBurst(readInteger(properties, buildGatewayKey(id, FIELD_RATE_LIMIT_BURST)));
+            gateway.setMaxConcurrentCalls(readInteger(properties, buildGatewayKey(id, FIELD_MAX_CONCURRENT_CALLS)));
+            gateway.setClientRateLimitPerSecond(readInteger(properties, buildGatewayKey(id, FIELD_CLIENT_RATE_LIMIT_PER_SECOND)));
+            gateway.setClientRateLimitBurst(readInteger(properties, buildGatewayKey(id, FIELD_CLIENT_RATE_LIMIT_BURST)));
+            gateway.setClientMaxConcurrentCalls(readInteger(properties, buildGatewayKey(id, FIELD_CLIENT_MAX_CONCURRENT_CALLS)));
             gateway.setTools(readTools(properties.getProperty(buildGatewayKey(id, FIELD_TOOLS))));
             gateways.put(id, gateway);
         }
@@ -70,6 +80,16 @@ public class PropertiesMCPGatewayRepository extends PropertiesRepositoryBase imp
             setOptional(properties, buildGatewayKey(id, FIELD_AUTH_USERNAME), gateway.getAuthUsername());
             setOptional(properties, buildGatewayKey(id, FIELD_AUTH_PASSWORD), encodeSecret(gateway.getAuthPassword()));
             setOptional(properties, buildGatewayKey(id, FIELD_AUTH_TOKEN), encodeSecret(gateway.getAuthToken()));
+            setOptional(properties, buildGatewayKey(id, FIELD_HTTP2_ENABLED), gateway.getHttp2Enabled());
+            setOptional(properties, buildGatewayKey(id, FIELD_HTTP2_MAX_CONCURRENT_STREAMS), gateway.getHttp2MaxConcurrentStreams());
+            setOptional(properties, buildGatewayKey(id, FIELD_HTTP2_INITIAL_WINDOW_SIZE), gateway.getHttp2InitialWindowSize());
+            setOptional(properties, buildGatewayKey(id, FIELD_HTTP2_HEADER_TABLE_SIZE), gateway.getHttp2HeaderTableSize());
+            setOptional(properties, buildGatewayKey(id, FIELD_RATE_LIMIT_PER_SECOND), gateway.getRateLimitPerSecond());
+            setOptional(properties, buildGatewayKey(id, FIELD_RATE_LIMIT_BURST), gateway.getRateLimitBurst());
+            setOptional(properties, buildGatewayKey(id, FIELD_MAX_CONCURRENT_CALLS), gateway.getMaxConcurrentCalls());
+            setOptional(properties, buildGatewayKey(id, FIELD_CLIENT_RATE_LIMIT_PER_SECOND), gateway.getClientRateLimitPerSecond());
+            setOptional(properties, buildGatewayKey(id, FIELD_CLIENT_RATE_LIMIT_BURST), gateway.getClientRateLimitBurst());
+            setOptional(properties, buildGatewayKey(id, FIELD_CLIENT_MAX_CONCURRENT_CALLS), gateway.getClientMaxConcurrentCalls());
             properties.setProperty(buildGatewayKey(id, FIELD_TOOLS), writeTools(gateway.getTools()));
         }
 
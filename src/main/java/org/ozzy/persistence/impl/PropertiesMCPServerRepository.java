@@ -60,6 +60,15 @@ public class PropertiesMCPServerRepository extends PropertiesRepositoryBase impl
             server.setOauthClientId(properties.getProperty(buildServerKey(id, FIELD_OAUTH_CLIENT_ID)));
             server.setOauthAccessToken(decodeSecret(properties.getProperty(buildServerKey(id, FIELD_OAUTH_ACCESS_TOKEN))));
             server.setOauthRefreshToken(decodeSecret(properties.getProperty(buildServerKey(id, FIELD_OAUTH_REFRESH_TOKEN))));
+            server.setMaxPoolSize(readInteger(properties, buildServerKey(id, FIELD_MAX_POOL_SIZE)));
+            server.setKeepAliveTimeoutSeconds(readInteger(properties, buildServerKey(id, FIELD_KEEP_ALIVE_TIMEOUT_SECONDS)));
+            server.setPipelining(readBoolean(properties, buildServerKey(id, FIELD_PIPELINING)));
+            server.setConnectTimeoutMillis(readInteger(properties, buildServerKey(id, FIELD_CONNECT_TIMEOUT_MILLIS)));
+            server.setIdleTimeoutSeconds(readInteger(properties, buildServerKey(id, FIELD_IDLE_TIMEOUT_SECONDS)));
+            server.setHttp2(readBoolean(properties, buildServerKey(id, FIELD_HTTP2)));
+            server.setHttp2MaxConcurrentStreams(readInteger(properties, buildServerKey(id, FIELD_HTTP2_MAX_CONCURRENT_STREAMS)));
+            server.setToolCatalogHash(properties.getProperty(buildServerKey(id, FIELD_TOOL_CATALOG_HASH)));
+            server.setReplicas(readReplicas(properties.getProperty(buildServerKey(id, FIELD_REPLICAS))));
             server.setTools(readTools(properties.getProperty(buildServerKey(id, FIELD_TOOLS))));
             servers.add(server);
         }
@@ -96,6 +105,15 @@ public class PropertiesMCPServerRepository extends PropertiesRepositoryBase impl
             setOptional(properties, buildServerKey(id, FIELD_OAUTH_CLIENT_ID), server.getOauthClientId());
             setOptional(properties, buildServerKey(id, FIELD_OAUTH_ACCESS_TOKEN), encodeSecret(server.getOauthAccessToken()));
             setOptional(properties, buildServerKey(id, FIELD_OAUTH_REFRESH_TOKEN), encodeSecret(server.getOauthRefreshToken()));
+            setOptional(properties, buildServerKey(id, FIELD_MAX_POOL_SIZE), server.getMaxPoolSize());
+            setOptional(properties, buildServerKey(id, FIELD_KEEP_ALIVE_TIMEOUT_SECONDS), server.getKeepAliveTimeoutSeconds());
+            setOptional(properties, buildServerKey(id, FIELD_PIPELINING), server.getPipelining());
+            setOptional(properties, buildServerKey(id, FIELD_CONNECT_TIMEOUT_MILLIS), server.getConnectTimeoutMillis());
+            setOptional(properties, buildServerKey(id, FIELD_IDLE_TIMEOUT_SECONDS), server.getIdleTimeoutSeconds());
+            setOptional(properties, buildServerKey(id, FIELD_HTTP2), server.getHttp2());
+            setOptional(properties, buildServerKey(id, FIELD_HTTP2_MAX_CONCURRENT_STREAMS), server.getHttp2MaxConcurrentStreams());
+            setOptional(properties, buildServerKey(id, FIELD_TOOL_CATALOG_HASH), server.getToolCatalogHash());
+            setOptional(properties, buildServerKey(id, FIELD_REPLICAS), writeReplicas(server.getReplicas()));
             properties.setProperty(buildServerKey(id, FIELD_TOOLS), writeTools(server.getTools()));
         }
 
@@ -124,6 +142,28 @@ public class PropertiesMCPServerRepository extends PropertiesRepositoryBase impl
         }
     }
 
+    private List<String> readReplicas(String rawJson) {
+        if (rawJson == null || rawJson.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(rawJson, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String writeReplicas(List<String> replicas) {
+        if (replicas == null || replicas.isEmpty()) {
+            return "";
+        }
+        try {
+            return objectMapper.writeValueAsString(replicas);
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
     private java.util.Map<String, String> readHeaders(String rawJson) {
         if (rawJson == null || rawJson.isBlank()) {
             return java.util.Collections.emptyMap();
@@ -35,6 +35,24 @@ abstract class PropertiesRepositoryBase {
     protected static final String FIELD_OAUTH_ACCESS_TOKEN = "oauthAccessToken";
     protected static final String FIELD_OAUTH_REFRESH_TOKEN = "oauthRefreshToken";
     protected static final String FIELD_OAUTH_CLIENT_ID = "oauthClientId";
+    protected static final String FIELD_MAX_POOL_SIZE = "maxPoolSize";
+    protected static final String FIELD_KEEP_ALIVE_TIMEOUT_SECONDS = "keepAliveTimeoutSeconds";
+    protected static final String FIELD_PIPELINING = "pipelining";
+    protected static final String FIELD_CONNECT_TIMEOUT_MILLIS = "connectTimeoutMillis";
+    protected static final String FIELD_IDLE_TIMEOUT_SECONDS = "idleTimeoutSeconds";
+    protected static final String FIELD_HTTP2 = "http2";
+    protected static final String FIELD_HTTP2_MAX_CONCURRENT_STREAMS = "http2MaxConcurrentStreams";
+    protected static final String FIELD_TOOL_CATALOG_HASH = "toolCatalogHash";
+    protected static final String FIELD_REPLICAS = "replicas";
+    protected static final String FIELD_HTTP2_ENABLED = "http2Enabled";
+    protected static final String FIELD_HTTP2_INITIAL_WINDOW_SIZE = "http2InitialWindowSize";
+    protected static final String FIELD_HTTP2_HEADER_TABLE_SIZE = "http2HeaderTableSize";
+    protected static final String FIELD_RATE_LIMIT_PER_SECOND = "rateLimitPerSecond";
+    protected static final String FIELD_RATE_LIMIT_BURST = "rateLimitBurst";
+    protected static final String FIELD_MAX_CONCURRENT_CALLS = "maxConcurrentCalls";
+    protected static final String FIELD_CLIENT_RATE_LIMIT_PER_SECOND = "clientRateLimitPerSecond";
+    protected static final String FIELD_CLIENT_RATE_LIMIT_BURST = "clientRateLimitBurst";
+    protected static final String FIELD_CLIENT_MAX_CONCURRENT_CALLS = "clientMaxConcurrentCalls";
 
     protected static final String APP_AUTH_TYPE_KEY = "app.auth.type";
     protected static final String APP_AUTH_USERNAME_KEY = "app.auth.username";
@@ -103,6 +121,45 @@ abstract class PropertiesRepositoryBase {
         properties.setProperty(key, value);
     }
 
+    protected void setOptional(Properties properties, String key, Object value) {
+        if (value == null) {
+            return;
+        }
+        properties.setProperty(key, String.valueOf(value));
+    }
+
+    protected Integer readInteger(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    protected Long readLong(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    protected Boolean readBoolean(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Boolean.valueOf(value.trim());
+    }
+
     protected String encodeSecret(String value) {
         if (value == null) {
             return null;
@@ -16,6 +16,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 
 import org.jboss.logging.Logger;
+import org.ozzy.dto.CircuitBreakerDto;
 import org.ozzy.dto.DtoMapper;
 import org.ozzy.dto.MCPServerDto;
 import org.ozzy.dto.ToolComparisonDto;
@@ -24,6 +25,7 @@ import org.ozzy.dto.ToolFieldDiffDto;
 import org.ozzy.dto.ToolDto;
 import org.ozzy.model.MCPServer;
 import org.ozzy.model.Tool;
+import org.ozzy.service.CircuitBreakerStatus;
 import org.ozzy.service.MCPServerService;
 import org.ozzy.service.ToolComparisonResult;
 
@@ -133,6 +135,26 @@ public class MCPServerResource {
         return Response.ok(DtoMapper.toToolDtos(tools)).build();
     }
 
+    @GET
+    @Path("/{id}/circuit-breaker")
+    public Response getCircuitBreaker(@PathParam("id") String id) {
+        CircuitBreakerStatus status = serverService.getCircuitBreakerStatus(id);
+        if (status == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(toCircuitBreakerDto(status)).build();
+    }
+
+    @POST
+    @Path("/{id}/circuit-breaker/reset")
+    public Response resetCircuitBreaker(@PathParam("id") String id) {
+        CircuitBreakerStatus status = serverService.resetCircuitBreaker(id);
+        if (status == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(toCircuitBreakerDto(status)).build();
+    }
+
     @PUT
     @Path("/{id}")
     public Response updateServer(@PathParam("id") String id, @Valid MCPServer updatedServer) {
@@ -142,4 +164,16 @@ public class MCPServerResource {
         }
         return Response.ok(DtoMapper.toServerDto(updated)).build();
     }
+
+    private CircuitBreakerDto toCircuitBreakerDto(CircuitBreakerStatus status) {
+        CircuitBreakerDto dto = new CircuitBreakerDto();
+        dto.setServerId(status.getServerId());
+        dto.setState(status.getState());
+        dto.setCalls(status.getCalls());
+        dto.setFailureRate(status.getFailureRate());
+        dto.setSlowCallRate(status.getSlowCallRate());
+        dto.setRejected(status.getRejected());
+        dto.setRetryAfterMillis(status.getRetryAfterMillis());
+        return dto;
+    }
 }
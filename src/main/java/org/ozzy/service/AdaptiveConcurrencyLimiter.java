@@ -0,0 +1,203 @@
+package org.ozzy.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ApplicationScoped
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger LOG = Logger.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final int BASELINE_WINDOW = 100;
+
+    private final Map<String, Limit> limits = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.initial-limit", defaultValue = "20")
+    int initialLimit;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.min-limit", defaultValue = "1")
+    int minLimit;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.max-limit", defaultValue = "500")
+    int maxLimit;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.backoff-ratio", defaultValue = "0.9")
+    double backoffRatio;
+
+    @ConfigProperty(name = "mcp.upstream.adaptive-limit.latency-tolerance", defaultValue = "2.0")
+    double latencyTolerance;
+
+    public AdaptiveConcurrencyLimiter() {
+    }
+
+    AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry, int initialLimit, int minLimit, int maxLimit,
+                               double backoffRatio, double latencyTolerance) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = true;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    Permit tryAcquire(String serverId) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+        Limit limit = limit(serverId);
+        if (limit.tryEnter()) {
+            return new Permit(limit);
+        }
+        limit.rejected.increment();
+        return null;
+    }
+
+    long retryAfterMillis(String serverId) {
+        Limit limit = limits.get(serverId);
+        return limit != null ? Math.max(1, TimeUnit.NANOSECONDS.toMillis(limit.baselineNanos())) : 1;
+    }
+
+    int currentLimit(String serverId) {
+        Limit limit = limits.get(serverId);
+        return limit != null ? limit.current() : initialLimit;
+    }
+
+    int inFlight(String serverId) {
+        Limit limit = limits.get(serverId);
+        return limit != null ? limit.inFlight.get() : 0;
+    }
+
+    public void evict(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        Limit removed = limits.remove(serverId);
+        if (removed != null) {
+            removed.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private Limit limit(String serverId) {
+        Limit limit = limits.get(serverId);
+        return limit != null ? limit : limits.computeIfAbsent(serverId, Limit::new);
+    }
+
+    static final class Permit {
+        private static final Permit NONE = new Permit(null);
+
+        private final Limit limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Limit limit) {
+            this.limit = limit;
+        }
+
+        void onSample(long rttNanos, boolean success) {
+            if (limit != null && released.compareAndSet(false, true)) {
+                limit.onSample(rttNanos, success, System.nanoTime());
+                limit.inFlight.decrementAndGet();
+            }
+        }
+
+        void release() {
+            if (limit != null && released.compareAndSet(false, true)) {
+                limit.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private final class Limit {
+        private final String serverId;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Counter rejected;
+        private final List<Meter> meters;
+        private volatile double limit;
+        private long windowMinNanos = Long.MAX_VALUE;
+        private long previousMinNanos = Long.MAX_VALUE;
+        private int windowSamples;
+        private long lastDecreaseNanos;
+        private boolean decreased;
+
+        private Limit(String serverId) {
+            this.serverId = serverId;
+            this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+            this.rejected = meterRegistry.counter("mcp.upstream.concurrency.rejected.count", "serverId", serverId);
+            Gauge current = Gauge.builder("mcp.upstream.concurrency.limit", this, Limit::current)
+                    .tag("serverId", serverId)
+                    .register(meterRegistry);
+            Gauge active = Gauge.builder("mcp.upstream.concurrency.inflight", inFlight, AtomicInteger::get)
+                    .tag("serverId", serverId)
+                    .register(meterRegistry);
+            this.meters = List.of(rejected, current, active);
+        }
+
+        private int current() {
+            return (int) limit;
+        }
+
+        private boolean tryEnter() {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= (int) limit) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private synchronized long baselineNanos() {
+            long baseline = Math.min(windowMinNanos, previousMinNanos);
+            return baseline == Long.MAX_VALUE ? 0 : baseline;
+        }
+
+        private synchronized void onSample(long rttNanos, boolean success, long now) {
+            long baseline = baselineNanos();
+            boolean congested = !success || baseline > 0 && rttNanos > baseline * latencyTolerance;
+            if (success) {
+                windowMinNanos = Math.min(windowMinNanos, rttNanos);
+                if (++windowSamples >= BASELINE_WINDOW) {
+                    previousMinNanos = windowMinNanos;
+                    windowMinNanos = Long.MAX_VALUE;
+                    windowSamples = 0;
+                }
+            }
+            if (congested) {
+                if (decreased && now - lastDecreaseNanos < Math.max(rttNanos, baseline)) {
+                    return;
+                }
+                decreased = true;
+                lastDecreaseNanos = now;
+                double reduced = Math.max(minLimit, limit * backoffRatio);
+                if ((int) reduced < (int) limit) {
+                    LOG.debugf("Reducing concurrency limit of server %s to %d", serverId, (int) reduced);
+                }
+                limit = reduced;
+            } else if (inFlight.get() * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package org.ozzy.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+final class BackendCircuitBreaker {
+
+    private static final Logger LOG = Logger.getLogger(BackendCircuitBreaker.class);
+
+    enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String serverId;
+    private final Settings settings;
+    private final boolean[] failures;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+    private int failureCount;
+    private int slowCount;
+    private State state = State.CLOSED;
+    private long generation;
+    private long openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long rejected;
+
+    BackendCircuitBreaker(String serverId, Settings settings) {
+        this.serverId = serverId;
+        this.settings = settings;
+        this.failures = new boolean[settings.windowSize];
+        this.slow = new boolean[settings.windowSize];
+    }
+
+    synchronized Permit tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now < openUntil) {
+                rejected++;
+                return null;
+            }
+            transition(State.HALF_OPEN, now);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= settings.halfOpenCalls) {
+                rejected++;
+                return null;
+            }
+            probesInFlight++;
+        }
+        return new Permit(this, generation);
+    }
+
+    private synchronized void onResult(long admittedIn, boolean success, long durationMillis, long now) {
+        if (admittedIn != generation) {
+            return;
+        }
+        boolean slowCall = durationMillis >= settings.slowCallMillis;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (!success || slowCall) {
+                transition(State.OPEN, now);
+                return;
+            }
+            probeSuccesses++;
+            if (probeSuccesses >= settings.halfOpenCalls) {
+                transition(State.CLOSED, now);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        record(!success, slowCall);
+        if (recorded < settings.minimumCalls) {
+            return;
+        }
+        if (failureRate() >= settings.failureRateThreshold || slowCallRate() >= settings.slowCallRateThreshold) {
+            transition(State.OPEN, now);
+        }
+    }
+
+    private synchronized void release(long admittedIn) {
+        if (admittedIn == generation && state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    synchronized void reset() {
+        transition(State.CLOSED, 0);
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized long retryAfterMillis(long now) {
+        return state == State.OPEN ? Math.max(0, openUntil - now) : 0;
+    }
+
+    synchronized CircuitBreakerStatus status(long now) {
+        CircuitBreakerStatus status = new CircuitBreakerStatus();
+        status.setServerId(serverId);
+        status.setState(state.name());
+        status.setCalls(recorded);
+        status.setFailureRate(failureRate());
+        status.setSlowCallRate(slowCallRate());
+        status.setRejected(rejected);
+        status.setRetryAfterMillis(state == State.OPEN ? Math.max(0, openUntil - now) : 0);
+        return status;
+    }
+
+    private void record(boolean failure, boolean slowCall) {
+        if (recorded == failures.length) {
+            if (failures[next]) {
+                failureCount--;
+            }
+            if (slow[next]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        slow[next] = slowCall;
+        if (failure) {
+            failureCount++;
+        }
+        if (slowCall) {
+            slowCount++;
+        }
+        next = (next + 1) % failures.length;
+    }
+
+    private float failureRate() {
+        return recorded == 0 ? 0 : failureCount * 100f / recorded;
+    }
+
+    private float slowCallRate() {
+        return recorded == 0 ? 0 : slowCount * 100f / recorded;
+    }
+
+    private void transition(State target, long now) {
+        if (state != target) {
+            LOG.infof("Circuit breaker for server %s moved from %s to %s (failure rate %.1f%%, slow call rate %.1f%%)",
+                    serverId, state, target, failureRate(), slowCallRate());
+        }
+        state = target;
+        generation++;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (target == State.OPEN) {
+            openUntil = now + settings.openMillis;
+            return;
+        }
+        if (target == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+
+    static final class Permit {
+        static final Permit NONE = new Permit(null, 0);
+
+        private final BackendCircuitBreaker breaker;
+        private final long generation;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(BackendCircuitBreaker breaker, long generation) {
+            this.breaker = breaker;
+            this.generation = generation;
+        }
+
+        void onResult(boolean success, long durationMillis, long now) {
+            if (breaker != null && done.compareAndSet(false, true)) {
+                breaker.onResult(generation, success, durationMillis, now);
+            }
+        }
+
+        void release() {
+            if (breaker != null && done.compareAndSet(false, true)) {
+                breaker.release(generation);
+            }
+        }
+    }
+
+    static final class Settings {
+        private final int windowSize;
+        private final int minimumCalls;
+        private final float failureRateThreshold;
+        private final float slowCallRateThreshold;
+        private final long slowCallMillis;
+        private final long openMillis;
+        private final int halfOpenCalls;
+
+        Settings(int windowSize, int minimumCalls, float failureRateThreshold, float slowCallRateThreshold,
+                 long slowCallMillis, long openMillis, int halfOpenCalls) {
+            this.windowSize = Math.max(1, windowSize);
+            this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            this.slowCallMillis = slowCallMillis;
+            this.openMillis = openMillis;
+            this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        }
+    }
+}
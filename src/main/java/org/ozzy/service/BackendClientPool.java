@@ -0,0 +1,309 @@
+package org.ozzy.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.ozzy.model.MCPServer;
+import org.ozzy.util.CertificatePinningUtil;
+import org.ozzy.util.PinnedTrustManager;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+
+@ApplicationScoped
+public class BackendClientPool {
+
+    private static final Logger LOG = Logger.getLogger(BackendClientPool.class);
+
+    private final Map<String, BackendClient> clients = new ConcurrentHashMap<>();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "mcp.upstream.max-pool-size", defaultValue = "20")
+    int defaultMaxPoolSize;
+
+    @ConfigProperty(name = "mcp.upstream.keep-alive-timeout-seconds", defaultValue = "60")
+    int defaultKeepAliveTimeoutSeconds;
+
+    @ConfigProperty(name = "mcp.upstream.pipelining", defaultValue = "false")
+    boolean defaultPipelining;
+
+    @ConfigProperty(name = "mcp.upstream.connect-timeout-millis", defaultValue = "10000")
+    int defaultConnectTimeoutMillis;
+
+    @ConfigProperty(name = "mcp.upstream.idle-timeout-seconds", defaultValue = "120")
+    int defaultIdleTimeoutSeconds;
+
+    @ConfigProperty(name = "mcp.upstream.http2-max-pool-size", defaultValue = "2")
+    int defaultHttp2MaxPoolSize;
+
+    @ConfigProperty(name = "mcp.upstream.http2-max-concurrent-streams", defaultValue = "-1")
+    int defaultHttp2MaxConcurrentStreams;
+
+    @ConfigProperty(name = "mcp.upstream.max-wait-queue-size", defaultValue = "-1")
+    int maxWaitQueueSize;
+
+    BackendClient client(MCPServer server) {
+        ClientSettings settings = resolveSettings(server);
+        return clients.compute(server.getId(), (serverId, existing) -> {
+            BackendClient client = existing;
+            if (client == null || !client.settings.equals(settings)) {
+                if (existing != null) {
+                    existing.retire();
+                }
+                client = createClient(serverId, settings);
+            }
+            client.requestQueued();
+            return client;
+        });
+    }
+
+    public void evict(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        BackendClient removed = clients.remove(serverId);
+        if (removed != null) {
+            removed.retire();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        clients.values().forEach(BackendClient::close);
+        clients.clear();
+    }
+
+    ClientSettings resolveSettings(MCPServer server) {
+        boolean http2 = Boolean.TRUE.equals(server.getHttp2());
+        return new ClientSettings(
+                valueOrDefault(server.getMaxPoolSize(), http2 ? defaultHttp2MaxPoolSize : defaultMaxPoolSize),
+                valueOrDefault(server.getKeepAliveTimeoutSeconds(), defaultKeepAliveTimeoutSeconds),
+                server.getPipelining() != null ? server.getPipelining() : defaultPipelining,
+                valueOrDefault(server.getConnectTimeoutMillis(), defaultConnectTimeoutMillis),
+                valueOrDefault(server.getIdleTimeoutSeconds(), defaultIdleTimeoutSeconds),
+                http2,
+                valueOrDefault(server.getHttp2MaxConcurrentStreams(), defaultHttp2MaxConcurrentStreams),
+                CertificatePinningUtil.trustManager(server));
+    }
+
+    private BackendClient createClient(String serverId, ClientSettings settings) {
+        HttpClientOptions options = new HttpClientOptions()
+                .setMaxPoolSize(settings.maxPoolSize)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(settings.keepAliveTimeoutSeconds)
+                .setPipelining(settings.pipelining)
+                .setConnectTimeout(settings.connectTimeoutMillis)
+                .setIdleTimeout(settings.idleTimeoutSeconds)
+                .setIdleTimeoutUnit(TimeUnit.SECONDS)
+                .setMaxWaitQueueSize(maxWaitQueueSize);
+        if (settings.http2) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2ClearTextUpgrade(false)
+                    .setHttp2MaxPoolSize(settings.maxPoolSize)
+                    .setHttp2MultiplexingLimit(settings.http2MaxConcurrentStreams)
+                    .setHttp2KeepAliveTimeout(settings.keepAliveTimeoutSeconds);
+        }
+        if (settings.pinnedTrust != null) {
+            options.setTrustOptions(settings.pinnedTrust.trustOptions());
+        }
+
+        PoolStats stats = new PoolStats(settings.maxPoolSize);
+        HttpClient httpClient = vertx.httpClientBuilder()
+                .with(options)
+                .withConnectHandler(connection -> {
+                    stats.connections.incrementAndGet();
+                    connection.closeHandler(closed -> stats.connections.decrementAndGet());
+                })
+                .build();
+
+        List<Meter> meters = List.of(
+                Gauge.builder("mcp.upstream.pool.active", stats, PoolStats::active)
+                        .tag("serverId", serverId).register(meterRegistry),
+                Gauge.builder("mcp.upstream.pool.idle", stats, PoolStats::idle)
+                        .tag("serverId", serverId).register(meterRegistry),
+                Gauge.builder("mcp.upstream.pool.wait.queue", stats, PoolStats::waiting)
+                        .tag("serverId", serverId).register(meterRegistry),
+                Gauge.builder("mcp.upstream.pool.max", stats, PoolStats::max)
+                        .tag("serverId", serverId).register(meterRegistry));
+
+        LOG.debugf("Created upstream client for server %s (%s)", serverId, settings);
+        return new BackendClient(httpClient, settings, stats, meters);
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    final class BackendClient {
+        private final HttpClient httpClient;
+        private final ClientSettings settings;
+        private final PoolStats stats;
+        private final List<Meter> meters;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean retired;
+
+        private BackendClient(HttpClient httpClient, ClientSettings settings, PoolStats stats, List<Meter> meters) {
+            this.httpClient = httpClient;
+            this.settings = settings;
+            this.stats = stats;
+            this.meters = meters;
+        }
+
+        HttpClient httpClient() {
+            return httpClient;
+        }
+
+        private void requestQueued() {
+            inFlight.incrementAndGet();
+            stats.waiting.incrementAndGet();
+        }
+
+        void requestStarted() {
+            stats.waiting.decrementAndGet();
+            stats.active.incrementAndGet();
+        }
+
+        void requestRejected() {
+            stats.waiting.decrementAndGet();
+            done();
+        }
+
+        void requestFinished() {
+            stats.active.decrementAndGet();
+            done();
+        }
+
+        private void done() {
+            if (inFlight.decrementAndGet() == 0 && retired) {
+                close();
+            }
+        }
+
+        private void retire() {
+            retired = true;
+            meters.forEach(meterRegistry::remove);
+            if (inFlight.get() == 0) {
+                close();
+            } else {
+                LOG.debugf("Retiring upstream client with %d requests in flight", inFlight.get());
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                meters.forEach(meterRegistry::remove);
+                httpClient.close();
+            }
+        }
+    }
+
+    static final class ClientSettings {
+        private final int maxPoolSize;
+        private final int keepAliveTimeoutSeconds;
+        private final boolean pipelining;
+        private final int connectTimeoutMillis;
+        private final int idleTimeoutSeconds;
+        private final boolean http2;
+        private final int http2MaxConcurrentStreams;
+        private final PinnedTrustManager pinnedTrust;
+
+        ClientSettings(int maxPoolSize, int keepAliveTimeoutSeconds, boolean pipelining, int connectTimeoutMillis,
+                       int idleTimeoutSeconds, boolean http2, int http2MaxConcurrentStreams,
+                       PinnedTrustManager pinnedTrust) {
+            this.maxPoolSize = maxPoolSize;
+            this.keepAliveTimeoutSeconds = keepAliveTimeoutSeconds;
+            this.pipelining = pipelining;
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.idleTimeoutSeconds = idleTimeoutSeconds;
+            this.http2 = http2;
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            this.pinnedTrust = pinnedTrust;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ClientSettings)) {
+                return false;
+            }
+            ClientSettings that = (ClientSettings) other;
+            return maxPoolSize == that.maxPoolSize
+                    && keepAliveTimeoutSeconds == that.keepAliveTimeoutSeconds
+                    && pipelining == that.pipelining
+                    && connectTimeoutMillis == that.connectTimeoutMillis
+                    && idleTimeoutSeconds == that.idleTimeoutSeconds
+                    && http2 == that.http2
+                    && http2MaxConcurrentStreams == that.http2MaxConcurrentStreams
+                    && pinnedTrust == that.pinnedTrust;
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(maxPoolSize, keepAliveTimeoutSeconds, pipelining, connectTimeoutMillis,
+                    idleTimeoutSeconds, http2, http2MaxConcurrentStreams, pinnedTrust);
+        }
+
+        @Override
+        public String toString() {
+            return "maxPoolSize=" + maxPoolSize
+                    + ", keepAliveTimeoutSeconds=" + keepAliveTimeoutSeconds
+                    + ", pipelining=" + pipelining
+                    + ", connectTimeoutMillis=" + connectTimeoutMillis
+                    + ", idleTimeoutSeconds=" + idleTimeoutSeconds
+                    + ", http2=" + http2
+                    + ", http2MaxConcurrentStreams=" + http2MaxConcurrentStreams
+                    + ", pinned=" + (pinnedTrust != null);
+        }
+    }
+
+    static final class PoolStats {
+        private final int max;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private PoolStats(int max) {
+            this.max = max;
+        }
+
+        double active() {
+            return active.get();
+        }
+
+        double idle() {
+            return Math.max(0, connections.get() - active.get());
+        }
+
+        double waiting() {
+            return waiting.get();
+        }
+
+        double max() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.ozzy.model.MCPServer;
+
+final class BackendTarget {
+
+    private static final String DEFAULT_PATH = "/mcp";
+
+    final String serverId;
+    final String host;
+    final int port;
+    final boolean ssl;
+    final String path;
+    final String key;
+
+    BackendTarget(String serverId, String host, int port, boolean ssl, String path) {
+        this.serverId = serverId;
+        this.host = host;
+        this.port = port;
+        this.ssl = ssl;
+        this.path = path;
+        this.key = host + ":" + port;
+    }
+
+    static BackendTarget from(MCPServer server) {
+        if (server == null || server.getHost() == null || server.getPort() <= 0) {
+            return null;
+        }
+        return new BackendTarget(server.getId(), server.getHost(), server.getPort(), isSsl(server), path(server));
+    }
+
+    static List<BackendTarget> endpoints(MCPServer server) {
+        BackendTarget primary = from(server);
+        if (primary == null) {
+            return Collections.emptyList();
+        }
+        if (server.getReplicas() == null || server.getReplicas().isEmpty()) {
+            return List.of(primary);
+        }
+        List<BackendTarget> endpoints = new ArrayList<>(server.getReplicas().size() + 1);
+        endpoints.add(primary);
+        for (String replica : server.getReplicas()) {
+            BackendTarget target = parseReplica(server, replica);
+            if (target != null && endpoints.stream().noneMatch(existing -> existing.key.equals(target.key))) {
+                endpoints.add(target);
+            }
+        }
+        return Collections.unmodifiableList(endpoints);
+    }
+
+    static BackendTarget parseReplica(MCPServer server, String replica) {
+        if (replica == null || replica.isBlank()) {
+            return null;
+        }
+        String value = replica.trim();
+        int separator = value.lastIndexOf(':');
+        if (separator <= 0 || separator == value.length() - 1) {
+            return null;
+        }
+        String host = value.substring(0, separator);
+        if (host.startsWith("[") && host.endsWith("]")) {
+            host = host.substring(1, host.length() - 1);
+        }
+        int port;
+        try {
+            port = Integer.parseInt(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (host.isBlank() || port <= 0 || port > 65535) {
+            return null;
+        }
+        return new BackendTarget(server.getId(), host, port, isSsl(server), path(server));
+    }
+
+    private static boolean isSsl(MCPServer server) {
+        return server.getProtocol() != null && server.getProtocol().equalsIgnoreCase("HTTPS");
+    }
+
+    private static String path(MCPServer server) {
+        String path = server.getRemotePath();
+        if (path == null || path.isBlank()) {
+            path = DEFAULT_PATH;
+        }
+        if (!path.startsWith("/")) {
+            path = "/" + path;
+        }
+        return path;
+    }
+}
@@ -0,0 +1,103 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.ozzy.util.ToolFingerprintUtil;
+
+import io.vertx.core.buffer.Buffer;
+
+@ApplicationScoped
+public class CallCoalescer {
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    @ConfigProperty(name = "mcp.tool-call.coalesce.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.tool-call.coalesce.max-response-bytes", defaultValue = "1048576")
+    int maxResponseBytes;
+
+    public CallCoalescer() {
+    }
+
+    CallCoalescer(boolean enabled, int maxResponseBytes) {
+        this.enabled = enabled;
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    boolean isCoalescable(GatewayToolRoute route) {
+        return enabled && route.isIdempotent();
+    }
+
+    int maxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    String key(String gatewayId, GatewayToolRoute route, String argumentsHash) {
+        if (!isCoalescable(route) || argumentsHash == null) {
+            return null;
+        }
+        return gatewayId + "|" + route.getServerId() + "|" + route.getToolName() + "|"
+                + ToolFingerprintUtil.storedFingerprint(route.getStoredTool()) + "|" + argumentsHash;
+    }
+
+    Flight join(String key, Consumer<Buffer> follower) {
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                Flight created = new Flight(key);
+                if (flights.putIfAbsent(key, created) == null) {
+                    return created;
+                }
+                continue;
+            }
+            if (flight.follow(follower)) {
+                return null;
+            }
+            flights.remove(key, flight);
+        }
+    }
+
+    int inFlight() {
+        return flights.size();
+    }
+
+    final class Flight {
+        private final String key;
+        private final List<Consumer<Buffer>> followers = new ArrayList<>();
+        private boolean completed;
+
+        private Flight(String key) {
+            this.key = key;
+        }
+
+        private synchronized boolean follow(Consumer<Buffer> follower) {
+            if (completed) {
+                return false;
+            }
+            followers.add(follower);
+            return true;
+        }
+
+        void complete(Buffer message) {
+            flights.remove(key, this);
+            List<Consumer<Buffer>> waiting;
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+                waiting = List.copyOf(followers);
+                followers.clear();
+            }
+            waiting.forEach(follower -> follower.accept(message));
+        }
+    }
+}
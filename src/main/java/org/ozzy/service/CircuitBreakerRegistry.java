@@ -0,0 +1,113 @@
+package org.ozzy.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ApplicationScoped
+public class CircuitBreakerRegistry {
+
+    private final Map<String, Entry> breakers = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.window-size", defaultValue = "50")
+    int windowSize;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.minimum-calls", defaultValue = "20")
+    int minimumCalls;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.failure-rate-threshold", defaultValue = "50")
+    float failureRateThreshold;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.slow-call-rate-threshold", defaultValue = "80")
+    float slowCallRateThreshold;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.slow-call-millis", defaultValue = "10000")
+    long slowCallMillis;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.open-millis", defaultValue = "30000")
+    long openMillis;
+
+    @ConfigProperty(name = "mcp.upstream.circuit-breaker.half-open-calls", defaultValue = "3")
+    int halfOpenCalls;
+
+    BackendCircuitBreaker.Permit tryAcquire(String serverId) {
+        if (!enabled) {
+            return BackendCircuitBreaker.Permit.NONE;
+        }
+        Entry entry = entry(serverId);
+        BackendCircuitBreaker.Permit permit = entry.breaker.tryAcquire(System.currentTimeMillis());
+        if (permit == null) {
+            entry.rejected.increment();
+        }
+        return permit;
+    }
+
+    long retryAfterMillis(String serverId) {
+        Entry entry = breakers.get(serverId);
+        return entry != null ? entry.breaker.retryAfterMillis(System.currentTimeMillis()) : 0;
+    }
+
+    public CircuitBreakerStatus status(String serverId) {
+        return entry(serverId).breaker.status(System.currentTimeMillis());
+    }
+
+    public CircuitBreakerStatus reset(String serverId) {
+        Entry entry = entry(serverId);
+        entry.breaker.reset();
+        return entry.breaker.status(System.currentTimeMillis());
+    }
+
+    public void evict(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        Entry removed = breakers.remove(serverId);
+        if (removed != null) {
+            removed.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private Entry entry(String serverId) {
+        Entry entry = breakers.get(serverId);
+        return entry != null ? entry : breakers.computeIfAbsent(serverId, this::createEntry);
+    }
+
+    private Entry createEntry(String serverId) {
+        BackendCircuitBreaker breaker = new BackendCircuitBreaker(serverId, new BackendCircuitBreaker.Settings(
+                windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallMillis, openMillis,
+                halfOpenCalls));
+        Counter rejected = meterRegistry.counter("mcp.upstream.circuit.rejected.count", "serverId", serverId);
+        Gauge state = Gauge.builder("mcp.upstream.circuit.state", breaker, b -> b.state().ordinal())
+                .tag("serverId", serverId)
+                .register(meterRegistry);
+        return new Entry(breaker, rejected, List.of(rejected, state));
+    }
+
+    private static final class Entry {
+        private final BackendCircuitBreaker breaker;
+        private final Counter rejected;
+        private final List<Meter> meters;
+
+        private Entry(BackendCircuitBreaker breaker, Counter rejected, List<Meter> meters) {
+            this.breaker = breaker;
+            this.rejected = rejected;
+            this.meters = meters;
+        }
+    }
+}
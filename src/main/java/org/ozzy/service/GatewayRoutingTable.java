@@ -0,0 +1,165 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.InputSchema;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+final class GatewayRoutingTable {
+
+    static final GatewayRoutingTable EMPTY = new GatewayRoutingTable(Map.of(), List.of());
+
+    private final Map<String, GatewayToolRoute> routes;
+    private final List<Tool> tools;
+    private volatile byte[] encodedTools;
+
+    private GatewayRoutingTable(Map<String, GatewayToolRoute> routes, List<Tool> tools) {
+        this.routes = routes;
+        this.tools = tools;
+    }
+
+    GatewayToolRoute route(String toolName) {
+        return toolName == null ? null : routes.get(toolName);
+    }
+
+    Collection<GatewayToolRoute> getRoutes() {
+        return routes.values();
+    }
+
+    List<Tool> getTools() {
+        return tools;
+    }
+
+    byte[] getEncodedTools() {
+        return encodedTools;
+    }
+
+    void setEncodedTools(byte[] encodedTools) {
+        this.encodedTools = encodedTools;
+    }
+
+    int size() {
+        return routes.size();
+    }
+
+    static Map<String, GatewayRoutingTable> compileAll(Map<String, MCPGateway> gateways, Map<String, MCPServer> servers) {
+        return compileAll(gateways, servers, Map.of());
+    }
+
+    static Map<String, GatewayRoutingTable> compileAll(Map<String, MCPGateway> gateways, Map<String, MCPServer> servers,
+                                                       Map<String, GatewayRoutingTable> previous) {
+        Map<String, Map<String, Tool>> toolsByServer = indexTools(servers);
+        Map<String, GatewayRoutingTable> tables = new HashMap<>();
+        for (MCPGateway gateway : gateways.values()) {
+            GatewayRoutingTable table = compile(gateway, servers, toolsByServer);
+            GatewayRoutingTable prior = previous.get(gateway.getId());
+            if (table != EMPTY && prior != null && prior.encodedTools != null && sameTools(prior.tools, table.tools)) {
+                table.encodedTools = prior.encodedTools;
+            }
+            tables.put(gateway.getId(), table);
+        }
+        return Collections.unmodifiableMap(tables);
+    }
+
+    static GatewayRoutingTable compile(MCPGateway gateway, Map<String, MCPServer> servers,
+                                       Map<String, Map<String, Tool>> toolsByServer) {
+        if (gateway == null || gateway.getTools() == null || gateway.getTools().isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, GatewayToolRoute> routes = new HashMap<>();
+        Map<String, List<BackendTarget>> targets = new HashMap<>();
+        List<Tool> tools = new ArrayList<>();
+        for (GatewayToolRef ref : gateway.getTools()) {
+            if (ref == null || ref.getToolName() == null || routes.containsKey(ref.getToolName())) {
+                continue;
+            }
+            MCPServer server = ref.getServerId() == null ? null : servers.get(ref.getServerId());
+            Tool stored = server == null ? null
+                    : toolsByServer.getOrDefault(server.getId(), Map.of()).get(ref.getToolName());
+            List<BackendTarget> endpoints = server == null ? List.of()
+                    : targets.computeIfAbsent(server.getId(), id -> BackendTarget.endpoints(server));
+            routes.put(ref.getToolName(), new GatewayToolRoute(ref, server, endpoints, stored,
+                    ToolValidationService.resolveValidationPolicy(ref)));
+            if (stored != null) {
+                tools.add(stored);
+            }
+        }
+        return new GatewayRoutingTable(Collections.unmodifiableMap(routes), Collections.unmodifiableList(tools));
+    }
+
+    private static boolean sameTools(List<Tool> previous, List<Tool> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            Tool before = previous.get(i);
+            Tool after = current.get(i);
+            if (!Objects.equals(before.getName(), after.getName())
+                    || !Objects.equals(before.getDescription(), after.getDescription())
+                    || !sameSchema(before.getInputSchema(), after.getInputSchema())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Compares what tools/list encodes, in encoding order, since every publish re-reads the servers.
+    private static boolean sameSchema(InputSchema previous, InputSchema current) {
+        if (previous == current) {
+            return true;
+        }
+        if (previous == null || current == null) {
+            return false;
+        }
+        return Objects.equals(previous.getRequired(), current.getRequired())
+                && sameProperties(previous.getProperties(), current.getProperties());
+    }
+
+    private static boolean sameProperties(Map<String, InputSchema.Property> previous,
+                                          Map<String, InputSchema.Property> current) {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        Iterator<Map.Entry<String, InputSchema.Property>> before = previous.entrySet().iterator();
+        for (Map.Entry<String, InputSchema.Property> after : current.entrySet()) {
+            Map.Entry<String, InputSchema.Property> entry = before.next();
+            InputSchema.Property a = entry.getValue();
+            InputSchema.Property b = after.getValue();
+            if (!Objects.equals(entry.getKey(), after.getKey())
+                    || !Objects.equals(a == null ? null : a.getType(), b == null ? null : b.getType())
+                    || !Objects.equals(a == null ? null : a.getDescription(), b == null ? null : b.getDescription())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, Map<String, Tool>> indexTools(Map<String, MCPServer> servers) {
+        Map<String, Map<String, Tool>> indexed = new HashMap<>();
+        for (MCPServer server : servers.values()) {
+            Map<String, Tool> byName = new HashMap<>();
+            if (server.getTools() != null) {
+                for (Tool tool : server.getTools()) {
+                    if (tool != null && tool.getName() != null) {
+                        byName.putIfAbsent(tool.getName(), tool);
+                    }
+                }
+            }
+            indexed.put(server.getId(), byName);
+        }
+        return indexed;
+    }
+}
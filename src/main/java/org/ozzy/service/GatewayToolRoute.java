@@ -0,0 +1,65 @@
+package org.ozzy.service;
+
+import java.util.List;
+
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+final class GatewayToolRoute {
+
+    private final GatewayToolRef ref;
+    private final MCPServer server;
+    private final List<BackendTarget> targets;
+    private final Tool storedTool;
+    private final ToolValidationService.ValidationPolicy policy;
+
+    GatewayToolRoute(GatewayToolRef ref, MCPServer server, List<BackendTarget> targets, Tool storedTool,
+                     ToolValidationService.ValidationPolicy policy) {
+        this.ref = ref;
+        this.server = server;
+        this.targets = targets;
+        this.storedTool = storedTool;
+        this.policy = policy;
+    }
+
+    GatewayToolRef getRef() {
+        return ref;
+    }
+
+    String getToolName() {
+        return ref.getToolName();
+    }
+
+    String getServerId() {
+        return ref.getServerId();
+    }
+
+    boolean isIdempotent() {
+        return Boolean.TRUE.equals(ref.getIdempotent());
+    }
+
+    boolean isCacheable() {
+        return ref.getCacheTtlSeconds() != null && ref.getCacheTtlSeconds() > 0;
+    }
+
+    MCPServer getServer() {
+        return server;
+    }
+
+    BackendTarget getTarget() {
+        return targets.isEmpty() ? null : targets.get(0);
+    }
+
+    List<BackendTarget> getTargets() {
+        return targets;
+    }
+
+    Tool getStoredTool() {
+        return storedTool;
+    }
+
+    ToolValidationService.ValidationPolicy getPolicy() {
+        return policy;
+    }
+}
@@ -0,0 +1,144 @@
+package org.ozzy.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+@ApplicationScoped
+public class HedgingPolicy {
+
+    private static final int WINDOW_SIZE = 128;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_INTERVAL = 16;
+    private static final long TOKEN = 1000;
+
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> budgets = new ConcurrentHashMap<>();
+
+    @ConfigProperty(name = "mcp.upstream.hedging.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.upstream.hedging.delay-millis", defaultValue = "0")
+    long delayMillis;
+
+    @ConfigProperty(name = "mcp.upstream.hedging.initial-delay-millis", defaultValue = "1000")
+    long initialDelayMillis;
+
+    @ConfigProperty(name = "mcp.upstream.hedging.min-delay-millis", defaultValue = "20")
+    long minDelayMillis;
+
+    @ConfigProperty(name = "mcp.upstream.hedging.budget-percent", defaultValue = "10")
+    int budgetPercent;
+
+    @ConfigProperty(name = "mcp.upstream.hedging.budget-burst", defaultValue = "10")
+    int budgetBurst;
+
+    public HedgingPolicy() {
+    }
+
+    HedgingPolicy(boolean enabled, long delayMillis, long initialDelayMillis, long minDelayMillis, int budgetPercent,
+                  int budgetBurst) {
+        this.enabled = enabled;
+        this.delayMillis = delayMillis;
+        this.initialDelayMillis = initialDelayMillis;
+        this.minDelayMillis = minDelayMillis;
+        this.budgetPercent = budgetPercent;
+        this.budgetBurst = budgetBurst;
+    }
+
+    boolean isEnabled() {
+        return enabled && budgetPercent > 0;
+    }
+
+    long hedgeDelayMillis(String serverId, String toolName) {
+        if (delayMillis > 0) {
+            return delayMillis;
+        }
+        LatencyWindow window = latencies.get(key(serverId, toolName));
+        long p95 = window != null ? window.p95() : -1;
+        return p95 < 0 ? initialDelayMillis : Math.max(minDelayMillis, p95);
+    }
+
+    void recordLatency(String serverId, String toolName, long millis) {
+        String key = key(serverId, toolName);
+        LatencyWindow window = latencies.get(key);
+        if (window == null) {
+            window = latencies.computeIfAbsent(key, ignored -> new LatencyWindow());
+        }
+        window.record(millis);
+    }
+
+    void onRequest(String serverId) {
+        AtomicLong budget = budget(serverId);
+        long max = (long) Math.max(1, budgetBurst) * TOKEN;
+        long deposit = Math.max(0, Math.min(100, budgetPercent)) * TOKEN / 100;
+        long current;
+        do {
+            current = budget.get();
+            if (current >= max) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(max, current + deposit)));
+    }
+
+    boolean tryAcquireHedge(String serverId) {
+        AtomicLong budget = budget(serverId);
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    public void evict(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        budgets.remove(serverId);
+        String prefix = serverId + "|";
+        latencies.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private AtomicLong budget(String serverId) {
+        AtomicLong budget = budgets.get(serverId);
+        return budget != null ? budget : budgets.computeIfAbsent(serverId, ignored -> new AtomicLong());
+    }
+
+    private static String key(String serverId, String toolName) {
+        return serverId + "|" + toolName;
+    }
+
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int recorded;
+        private int next;
+        private int sinceRecompute;
+        private volatile long p95 = -1;
+
+        private synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % samples.length;
+            if (recorded < samples.length) {
+                recorded++;
+            }
+            if (recorded >= MIN_SAMPLES && (++sinceRecompute >= RECOMPUTE_INTERVAL || p95 < 0)) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(samples, recorded);
+                Arrays.sort(sorted);
+                p95 = sorted[(int) Math.ceil(recorded * 0.95) - 1];
+            }
+        }
+
+        private long p95() {
+            return p95;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.ozzy.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ozzy.util.BufferInputStream;
+import org.ozzy.util.ToolFingerprintUtil;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.buffer.Buffer;
+
+final class JsonRpcEnvelope {
+
+    private final boolean object;
+    private final String jsonrpc;
+    private final String method;
+    private final JsonNode id;
+    private final String toolName;
+    private final Buffer raw;
+    private final List<JsonRpcEnvelope> batch;
+
+    private JsonRpcEnvelope(boolean object, String jsonrpc, String method, JsonNode id, String toolName, Buffer raw,
+                            List<JsonRpcEnvelope> batch) {
+        this.object = object;
+        this.jsonrpc = jsonrpc;
+        this.method = method;
+        this.id = id;
+        this.toolName = toolName;
+        this.raw = raw;
+        this.batch = batch;
+    }
+
+    static JsonRpcEnvelope parse(ObjectMapper objectMapper, Buffer body) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(new BufferInputStream(body))) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Empty JSON-RPC body");
+            }
+            if (token == JsonToken.START_ARRAY) {
+                return readBatch(parser, body);
+            }
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return invalid();
+            }
+            return readObject(parser, body);
+        }
+    }
+
+    private static JsonRpcEnvelope readBatch(JsonParser parser, Buffer body) throws IOException {
+        List<JsonRpcEnvelope> elements = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unterminated JSON-RPC batch");
+            }
+            if (token == JsonToken.START_OBJECT) {
+                elements.add(readObject(parser, body));
+            } else {
+                parser.skipChildren();
+                elements.add(invalid());
+            }
+        }
+        return new JsonRpcEnvelope(false, null, null, null, null, null, List.copyOf(elements));
+    }
+
+    private static JsonRpcEnvelope invalid() {
+        return new JsonRpcEnvelope(false, null, null, null, null, null, null);
+    }
+
+    static JsonRpcEnvelope readObject(JsonParser parser, Buffer body) throws IOException {
+        int start = (int) parser.currentTokenLocation().getByteOffset();
+        String jsonrpc = null;
+        String method = null;
+        JsonNode id = null;
+        String toolName = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "jsonrpc":
+                    jsonrpc = value.isScalarValue() ? parser.getValueAsString() : skip(parser);
+                    break;
+                case "method":
+                    method = value.isScalarValue() ? parser.getValueAsString() : skip(parser);
+                    break;
+                case "id":
+                    id = parser.readValueAsTree();
+                    break;
+                case "params":
+                    toolName = readToolName(parser, value);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        int end = (int) parser.currentLocation().getByteOffset();
+        Buffer raw = start >= 0 && end > start && end <= body.length() ? body.slice(start, end) : body;
+        return new JsonRpcEnvelope(true, jsonrpc, method, id, toolName, raw, null);
+    }
+
+    private static String readToolName(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("name".equals(field) && token == JsonToken.VALUE_STRING) {
+                name = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static String skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    boolean isObject() {
+        return object;
+    }
+
+    String getJsonrpc() {
+        return jsonrpc;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    JsonNode getId() {
+        return id;
+    }
+
+    String getToolName() {
+        return toolName;
+    }
+
+    Buffer getRaw() {
+        return raw;
+    }
+
+    String argumentsHash(ObjectMapper objectMapper) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            JsonNode arguments = objectMapper.readTree(new BufferInputStream(raw)).path("params").path("arguments");
+            return ToolFingerprintUtil.argumentsHash(arguments);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    boolean isBatch() {
+        return batch != null;
+    }
+
+    List<JsonRpcEnvelope> getBatch() {
+        return batch;
+    }
+}
@@ -45,6 +45,12 @@ public class MCPGatewayService {
     @Inject
     MeterRegistry meterRegistry;
 
+    @Inject
+    MCPRegistry registry;
+
+    @Inject
+    RateLimiterRegistry rateLimiters;
+
     @PostConstruct
     void init() {
         Map<String, MCPGateway> loaded = gatewayRepository.loadAll();
@@ -62,6 +68,7 @@ public class MCPGatewayService {
                 }
             }
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
         } finally {
             lock.writeLock().unlock();
         }
@@ -81,6 +88,7 @@ public class MCPGatewayService {
         try {
             gateways.put(gateway.getId(), gateway);
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
             LOG.debugf("Added gateway %s", gateway.getId());
             meterRegistry.counter("mcp.gateway.create.count").increment();
             return gateway;
@@ -111,7 +119,18 @@ public class MCPGatewayService {
             if (updatedGateway.getTools() != null) {
                 existing.setTools(updatedGateway.getTools());
             }
+            existing.setHttp2Enabled(updatedGateway.getHttp2Enabled());
+            existing.setHttp2MaxConcurrentStreams(updatedGateway.getHttp2MaxConcurrentStreams());
+            existing.setHttp2InitialWindowSize(updatedGateway.getHttp2InitialWindowSize());
+            existing.setHttp2HeaderTableSize(updatedGateway.getHttp2HeaderTableSize());
+            existing.setRateLimitPerSecond(updatedGateway.getRateLimitPerSecond());
+            existing.setRateLimitBurst(updatedGateway.getRateLimitBurst());
+            existing.setMaxConcurrentCalls(updatedGateway.getMaxConcurrentCalls());
+            existing.setClientRateLimitPerSecond(updatedGateway.getClientRateLimitPerSecond());
+            existing.setClientRateLimitBurst(updatedGateway.getClientRateLimitBurst());
+            existing.setClientMaxConcurrentCalls(updatedGateway.getClientMaxConcurrentCalls());
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
             LOG.debugf("Updated gateway %s", id);
             meterRegistry.counter("mcp.gateway.update.count").increment();
             return existing;
@@ -129,6 +148,8 @@ public class MCPGatewayService {
                     serverProxy.stopGateway(removed.getId());
                 }
                 gatewayRepository.saveAll(gateways);
+                registry.publishGateways(gateways.values());
+                rateLimiters.evictGateway(id);
                 LOG.debugf("Deleted gateway %s", id);
                 meterRegistry.counter("mcp.gateway.delete.count").increment();
             }
@@ -156,6 +177,7 @@ public class MCPGatewayService {
             }
             gateway.setStatus("STARTED");
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
             LOG.debugf("Updated gateway %s status to STARTED", id);
             meterRegistry.counter("mcp.gateway.start.count").increment();
             return gateway;
@@ -174,6 +196,7 @@ public class MCPGatewayService {
             serverProxy.stopGateway(gateway.getId());
             gateway.setStatus("STOPPED");
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
             LOG.debugf("Updated gateway %s status to STOPPED", id);
             meterRegistry.counter("mcp.gateway.stop.count").increment();
             return gateway;
@@ -207,6 +230,7 @@ public class MCPGatewayService {
             }
             if (changed) {
                 gatewayRepository.saveAll(gateways);
+                registry.publishGateways(gateways.values());
                 LOG.debugf("Removed %d gateway tool references for server %s", removedCount, serverId);
                 meterRegistry.counter("mcp.gateway.toolrefs.removed.count").increment(removedCount);
             }
@@ -257,6 +281,7 @@ public class MCPGatewayService {
 
         if (changed) {
             gatewayRepository.saveAll(gateways);
+            registry.publishGateways(gateways.values());
             LOG.warnf("Removed %d invalid gateway tool references during startup", removed);
             meterRegistry.counter("mcp.gateway.toolrefs.invalid.removed.count").increment(removed);
         }
@@ -0,0 +1,88 @@
+package org.ozzy.service;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+import org.ozzy.persistence.MCPGatewayRepository;
+import org.ozzy.persistence.MCPServerRepository;
+
+@ApplicationScoped
+public class MCPRegistry {
+
+    private static final Logger LOG = Logger.getLogger(MCPRegistry.class);
+
+    private final AtomicReference<MCPRegistrySnapshot> current = new AtomicReference<>(MCPRegistrySnapshot.EMPTY);
+    private final Object publishLock = new Object();
+
+    @Inject
+    MCPGatewayRepository gatewayRepository;
+
+    @Inject
+    MCPServerRepository serverRepository;
+
+    @Inject
+    ProxyMetrics metrics;
+
+    @Inject
+    ToolResponseCache responseCache;
+
+    @Inject
+    ToolValidationService validationService;
+
+    @PostConstruct
+    void init() {
+        publishServers(serverRepository.loadAll());
+        publishGateways(gatewayRepository.loadAll().values());
+    }
+
+    public MCPRegistrySnapshot snapshot() {
+        return current.get();
+    }
+
+    public MCPGateway getGateway(String gatewayId) {
+        return current.get().getGateway(gatewayId);
+    }
+
+    public MCPServer getServer(String serverId) {
+        return current.get().getServer(serverId);
+    }
+
+    public void publishGateways(Collection<MCPGateway> gateways) {
+        MCPRegistrySnapshot updated;
+        synchronized (publishLock) {
+            updated = current.get().withGateways(gateways);
+            current.set(updated);
+            syncListeners(updated);
+        }
+        LOG.debugf("Published registry version %d (%d gateways)", updated.getVersion(), updated.getGateways().size());
+    }
+
+    public void publishServers(Collection<MCPServer> servers) {
+        MCPRegistrySnapshot updated;
+        synchronized (publishLock) {
+            updated = current.get().withServers(servers);
+            current.set(updated);
+            syncListeners(updated);
+        }
+        LOG.debugf("Published registry version %d (%d servers)", updated.getVersion(), updated.getServers().size());
+    }
+
+    private void syncListeners(MCPRegistrySnapshot snapshot) {
+        if (metrics != null) {
+            metrics.sync(snapshot);
+        }
+        if (responseCache != null) {
+            responseCache.sync(snapshot);
+        }
+        if (validationService != null) {
+            validationService.sync(snapshot);
+        }
+    }
+}
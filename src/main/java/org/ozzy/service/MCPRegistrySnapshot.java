@@ -0,0 +1,84 @@
+package org.ozzy.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+
+public final class MCPRegistrySnapshot {
+
+    static final MCPRegistrySnapshot EMPTY = new MCPRegistrySnapshot(0L, Map.of(), Map.of(), Map.of());
+
+    private final long version;
+    private final Map<String, MCPGateway> gateways;
+    private final Map<String, MCPServer> servers;
+    private final Map<String, GatewayRoutingTable> routingTables;
+
+    private MCPRegistrySnapshot(long version, Map<String, MCPGateway> gateways, Map<String, MCPServer> servers,
+                                Map<String, GatewayRoutingTable> previousTables) {
+        this.version = version;
+        this.gateways = gateways;
+        this.servers = servers;
+        this.routingTables = GatewayRoutingTable.compileAll(gateways, servers, previousTables);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public MCPGateway getGateway(String gatewayId) {
+        return gatewayId == null ? null : gateways.get(gatewayId);
+    }
+
+    public MCPServer getServer(String serverId) {
+        return serverId == null ? null : servers.get(serverId);
+    }
+
+    GatewayRoutingTable getRoutingTable(String gatewayId) {
+        GatewayRoutingTable table = gatewayId == null ? null : routingTables.get(gatewayId);
+        return table == null ? GatewayRoutingTable.EMPTY : table;
+    }
+
+    public Map<String, MCPGateway> getGateways() {
+        return gateways;
+    }
+
+    public Map<String, MCPServer> getServers() {
+        return servers;
+    }
+
+    MCPRegistrySnapshot withGateways(Collection<MCPGateway> updated) {
+        return new MCPRegistrySnapshot(version + 1, indexGateways(updated), servers, routingTables);
+    }
+
+    MCPRegistrySnapshot withServers(Collection<MCPServer> updated) {
+        return new MCPRegistrySnapshot(version + 1, gateways, indexServers(updated), routingTables);
+    }
+
+    private static Map<String, MCPGateway> indexGateways(Collection<MCPGateway> source) {
+        Map<String, MCPGateway> indexed = new LinkedHashMap<>();
+        if (source != null) {
+            for (MCPGateway gateway : source) {
+                if (gateway != null && gateway.getId() != null) {
+                    indexed.put(gateway.getId(), gateway.copy());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(indexed);
+    }
+
+    private static Map<String, MCPServer> indexServers(Collection<MCPServer> source) {
+        Map<String, MCPServer> indexed = new LinkedHashMap<>();
+        if (source != null) {
+            for (MCPServer server : source) {
+                if (server != null && server.getId() != null) {
+                    indexed.put(server.getId(), server.copy());
+                }
+            }
+        }
+        return Collections.unmodifiableMap(indexed);
+    }
+}
@@ -1,28 +1,29 @@
 package org.ozzy.service;
 
-import java.time.Duration;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
-import org.ozzy.model.GatewayToolRef;
 import org.ozzy.model.InputSchema;
 import org.ozzy.model.MCPGateway;
 import org.ozzy.model.MCPServer;
 import org.ozzy.model.Tool;
-import org.ozzy.persistence.MCPGatewayRepository;
-import org.ozzy.persistence.MCPServerRepository;
 import org.ozzy.service.auth.GatewayAuthService;
+import org.ozzy.util.BufferInputStream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -30,14 +31,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
-import io.vertx.core.http.HttpClient;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.RequestOptions;
 
 @ApplicationScoped
@@ -47,19 +50,16 @@ public class MCPServerProxy {
     private static final String MCP_PATH = "/mcp";
     private static final String JSONRPC_VERSION = "2.0";
     private static final String PROTOCOL_VERSION = "2025-11-25";
+    private static final String SESSION_HEADER = "Mcp-Session-Id";
     private static final String TOOL_DISABLED_MESSAGE = "The tool is currently disabled for policy reasons. Please try again later once the issue has been resolved.";
 
     private final Map<String, HttpServer> runningServers = new ConcurrentHashMap<>();
-    private HttpClient httpClient;
 
     @Inject
     Vertx vertx;
 
     @Inject
-    MCPGatewayRepository gatewayRepository;
-
-    @Inject
-    MCPServerRepository serverRepository;
+    MCPRegistry registry;
 
     @Inject
     ObjectMapper objectMapper;
@@ -68,17 +68,43 @@ public class MCPServerProxy {
     GatewayAuthService authService;
 
     @Inject
-    MeterRegistry meterRegistry;
+    ProxyMetrics metrics;
 
     @Inject
     ToolValidationService validationService;
 
-    private HttpClient getHttpClient() {
-        if (httpClient == null) {
-            httpClient = vertx.createHttpClient();
-        }
-        return httpClient;
-    }
+    @Inject
+    BackendClientPool clientPool;
+
+    @Inject
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Inject
+    ReplicaBalancer replicaBalancer;
+
+    @Inject
+    HedgingPolicy hedgingPolicy;
+
+    @Inject
+    AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Inject
+    ToolResponseCache responseCache;
+
+    @Inject
+    CallCoalescer callCoalescer;
+
+    @Inject
+    RateLimiterRegistry rateLimiters;
+
+    @ConfigProperty(name = "mcp.upstream.request-timeout-millis", defaultValue = "30000")
+    long requestTimeoutMillis;
+
+    @ConfigProperty(name = "mcp.gateway.stream.high-water-mark-bytes", defaultValue = "65536")
+    int streamHighWaterMarkBytes;
+
+    @ConfigProperty(name = "mcp.validation.retry-after-millis", defaultValue = "1000")
+    long validationRetryAfterMillis;
 
     public boolean startGateway(MCPGateway gateway) {
         if (gateway == null || gateway.getId() == null || gateway.getId().isBlank()) {
@@ -90,9 +116,7 @@ public class MCPServerProxy {
         }
         LOG.infof("Gateway MCP server was not already started.. launching..");
 
-        HttpServerOptions options = new HttpServerOptions()
-                .setHost(gateway.getHost())
-                .setPort(gateway.getPort());
+        HttpServerOptions options = buildServerOptions(gateway);
 
         HttpServer server = vertx.createHttpServer(options);
         server.requestHandler(request -> {
@@ -104,7 +128,7 @@ public class MCPServerProxy {
                 request.response().setStatusCode(405).end();
                 return;
             }
-            request.bodyHandler(buffer -> handleRequest(gateway.getId(), buffer.toString(), request));
+            request.bodyHandler(buffer -> handleRequest(gateway.getId(), buffer, request));
         });
 
         CompletableFuture<Boolean> result = new CompletableFuture<>();
@@ -130,6 +154,30 @@ public class MCPServerProxy {
         }
     }
 
+    HttpServerOptions buildServerOptions(MCPGateway gateway) {
+        HttpServerOptions options = new HttpServerOptions()
+                .setHost(gateway.getHost())
+                .setPort(gateway.getPort());
+        if (!Boolean.TRUE.equals(gateway.getHttp2Enabled())) {
+            return options.setHttp2ClearTextEnabled(false);
+        }
+
+        Http2Settings settings = new Http2Settings();
+        if (gateway.getHttp2MaxConcurrentStreams() != null) {
+            settings.setMaxConcurrentStreams(gateway.getHttp2MaxConcurrentStreams());
+        }
+        if (gateway.getHttp2InitialWindowSize() != null) {
+            settings.setInitialWindowSize(gateway.getHttp2InitialWindowSize());
+        }
+        if (gateway.getHttp2HeaderTableSize() != null) {
+            settings.setHeaderTableSize(gateway.getHttp2HeaderTableSize());
+        }
+        return options
+                .setHttp2ClearTextEnabled(true)
+                .setUseAlpn(true)
+                .setInitialSettings(settings);
+    }
+
     public boolean stopGateway(String gatewayId) {
         HttpServer server = runningServers.remove(gatewayId);
         if (server == null) {
@@ -158,35 +206,40 @@ public class MCPServerProxy {
         }
     }
 
-    private void handleRequest(String gatewayId, String body, io.vertx.core.http.HttpServerRequest request) {
-        MCPGateway gateway = getGateway(gatewayId);
+    private void handleRequest(String gatewayId, Buffer body, io.vertx.core.http.HttpServerRequest request) {
+        MCPRegistrySnapshot snapshot = registry.snapshot();
+        MCPGateway gateway = snapshot.getGateway(gatewayId);
         if (gateway == null) {
             request.response().setStatusCode(404).end();
             return;
         }
         if (!authService.isAuthorized(gateway, request)) {
-            meterRegistry.counter("mcp.gateway.auth.failure.count", "gatewayId", gatewayId).increment();
+            metrics.gateway(gatewayId).authFailure().increment();
             sendUnauthorized(request);
             return;
         }
-        meterRegistry.counter("mcp.gateway.auth.success.count", "gatewayId", gatewayId).increment();
+        metrics.gateway(gatewayId).authSuccess().increment();
 
-        JsonNode json;
+        JsonRpcEnvelope envelope;
         try {
-            json = objectMapper.readTree(body);
-        } catch (JsonProcessingException e) {
+            envelope = JsonRpcEnvelope.parse(objectMapper, body);
+        } catch (IOException e) {
             sendError(request, null, -32700, "Parse error");
             return;
         }
 
-        if (!json.isObject()) {
+        if (envelope.isBatch()) {
+            handleBatch(snapshot, gateway, envelope.getBatch(), request);
+            return;
+        }
+
+        if (!envelope.isObject()) {
             sendError(request, null, -32600, "Invalid Request");
             return;
         }
 
-        JsonNode methodNode = json.get("method");
-        String method = methodNode != null ? methodNode.asText() : null;
-        JsonNode idNode = json.get("id");
+        String method = envelope.getMethod();
+        JsonNode idNode = envelope.getId();
 
         if (method == null || method.isBlank()) {
             sendError(request, idNode, -32600, "Invalid Request");
@@ -198,145 +251,166 @@ public class MCPServerProxy {
             return;
         }
 
-        switch (method) {
+        dispatch(snapshot, gatewayId, envelope, callContext(gateway, request), new DirectResponder(gatewayId, request));
+    }
+
+    private void handleBatch(MCPRegistrySnapshot snapshot, MCPGateway gateway, List<JsonRpcEnvelope> batch,
+                             io.vertx.core.http.HttpServerRequest request) {
+        String gatewayId = gateway.getId();
+        if (batch.isEmpty()) {
+            sendError(request, null, -32600, "Invalid Request");
+            return;
+        }
+
+        List<JsonRpcEnvelope> answered = new ArrayList<>(batch.size());
+        for (JsonRpcEnvelope element : batch) {
+            if (!element.isObject() || element.getMethod() == null || element.getMethod().isBlank()
+                    || (element.getId() != null && !element.getId().isNull())) {
+                answered.add(element);
+            }
+        }
+        ProxyMetrics.GatewayMeters gatewayMeters = metrics.gateway(gatewayId);
+        gatewayMeters.batchCount().increment();
+        gatewayMeters.batchSize().record(batch.size());
+        if (answered.isEmpty()) {
+            request.response().setStatusCode(204).end();
+            return;
+        }
+
+        request.response()
+                .setChunked(true)
+                .putHeader("Content-Type", "application/json")
+                .setStatusCode(200);
+        BatchCollector collector = new BatchCollector(request, answered.size());
+        CallContext call = callContext(gateway, request);
+        for (JsonRpcEnvelope element : answered) {
+            JsonRpcResponder responder = new BatchResponder(collector);
+            if (!element.isObject()) {
+                responder.respond(errorMessage(null, -32600, "Invalid Request"));
+            } else if (element.getMethod() == null || element.getMethod().isBlank()) {
+                responder.respond(errorMessage(element.getId(), -32600, "Invalid Request"));
+            } else {
+                dispatch(snapshot, gatewayId, element, call, responder);
+            }
+        }
+    }
+
+    private CallContext callContext(MCPGateway gateway, io.vertx.core.http.HttpServerRequest request) {
+        String clientId = rateLimiters.tracksClients(gateway) ? authService.clientIdentity(gateway, request) : null;
+        return new CallContext(gateway, normalizeAcceptHeader(request.getHeader("Accept")),
+                request.getHeader(SESSION_HEADER), clientId);
+    }
+
+    private void dispatch(MCPRegistrySnapshot snapshot, String gatewayId, JsonRpcEnvelope envelope, CallContext call,
+                          JsonRpcResponder responder) {
+        JsonNode idNode = envelope.getId();
+        ProxyMetrics.GatewayMeters gatewayMeters = metrics.gateway(gatewayId);
+        switch (envelope.getMethod()) {
             case "initialize":
-                meterRegistry.counter("mcp.gateway.request.count", "method", "initialize", "gatewayId", gatewayId).increment();
-                sendJson(request, buildInitializeResponse(idNode));
+                gatewayMeters.request("initialize").increment();
+                responder.respond(toBuffer(buildInitializeResponse(idNode)));
                 return;
             case "tools/list":
-                meterRegistry.counter("mcp.gateway.request.count", "method", "tools/list", "gatewayId", gatewayId).increment();
-                sendJson(request, buildToolsListResponse(gatewayId, idNode));
+                gatewayMeters.request("tools/list").increment();
+                responder.respond(buildToolsListResponse(gatewayId, snapshot.getRoutingTable(gatewayId), idNode));
                 return;
             case "tools/call":
-                meterRegistry.counter("mcp.gateway.request.count", "method", "tools/call", "gatewayId", gatewayId).increment();
-                forwardToolCall(gateway, gatewayId, json, idNode, request);
+                gatewayMeters.request("tools/call").increment();
+                forwardToolCall(snapshot.getRoutingTable(gatewayId), gatewayId, envelope, call, responder);
                 return;
             case "ping":
-                meterRegistry.counter("mcp.gateway.request.count", "method", "ping", "gatewayId", gatewayId).increment();
-                sendJson(request, buildEmptyResult(idNode));
+                gatewayMeters.request("ping").increment();
+                responder.respond(toBuffer(buildEmptyResult(idNode)));
                 return;
             default:
-                meterRegistry.counter("mcp.gateway.request.count", "method", "unknown", "gatewayId", gatewayId).increment();
-                sendError(request, idNode, -32601, "Method not found");
+                gatewayMeters.request("unknown").increment();
+                responder.respond(errorMessage(idNode, -32601, "Method not found"));
         }
     }
 
-    private void forwardToolCall(MCPGateway gateway, String gatewayId, JsonNode requestJson, JsonNode idNode, io.vertx.core.http.HttpServerRequest request) {
-        String toolName = requestJson.path("params").path("name").asText(null);
+    private void forwardToolCall(GatewayRoutingTable routingTable, String gatewayId, JsonRpcEnvelope envelope,
+                                 CallContext call, JsonRpcResponder caller) {
+        JsonNode idNode = envelope.getId();
+        String toolName = envelope.getToolName();
         if (toolName == null || toolName.isBlank()) {
-            sendError(request, idNode, -32602, "Invalid params");
+            caller.respond(errorMessage(idNode, -32602, "Invalid params"));
             return;
         }
 
-        Optional<GatewayToolRef> refOpt = gateway.getTools().stream()
-                .filter(ref -> ref != null && toolName.equals(ref.getToolName()))
-                .findFirst();
-
-        if (refOpt.isEmpty()) {
-            sendError(request, idNode, -32601, "Tool not found");
+        GatewayToolRoute route = routingTable.route(toolName);
+        if (route == null) {
+            caller.respond(errorMessage(idNode, -32601, "Tool not found"));
             return;
         }
 
-        GatewayToolRef ref = refOpt.get();
-        MCPServer server = getServer(ref.getServerId());
+        MCPServer server = route.getServer();
         if (server == null) {
-            sendError(request, idNode, -32601, "Tool server not found");
+            caller.respond(errorMessage(idNode, -32601, "Tool server not found"));
             return;
         }
 
-        meterRegistry.counter("mcp.tool.invocation.count",
-            "gatewayId", gatewayId,
-            "serverId", String.valueOf(ref.getServerId()),
-            "tool", toolName).increment();
+        metrics.tool(gatewayId, String.valueOf(route.getServerId()), toolName).invocation().increment();
 
-        String url = buildServerUrl(server);
-        if (url == null) {
-            sendError(request, idNode, -32601, "Tool server endpoint not configured");
+        if (route.getTargets().isEmpty()) {
+            caller.respond(errorMessage(idNode, -32601, "Tool server endpoint not configured"));
             return;
         }
 
-        String payload;
-        try {
-            payload = objectMapper.writeValueAsString(requestJson);
-        } catch (JsonProcessingException e) {
-            sendError(request, idNode, -32603, "Internal error");
+        RateLimiterRegistry.Admission admission = rateLimiters.tryAcquire(call.gateway, route, call.clientId);
+        if (!admission.isAdmitted()) {
+            metrics.gateway(gatewayId).throttled(admission.scope(), admission.reason()).increment();
+            caller.respond(throttledMessage(idNode, admission));
             return;
         }
+        JsonRpcResponder responder = admission.holdsPermits()
+                ? new ReleasingResponder(caller, admission::release)
+                : caller;
 
-        String acceptHeader = normalizeAcceptHeader(request.getHeader("Accept"));
+        Buffer payload = envelope.getRaw();
 
         //LOG.infof("Proxy sending request - %s  :: ACCEPT %s", payload, acceptHeader);
 
-        BackendTarget target = buildBackendTarget(server);
-        if (target == null) {
-            sendError(request, idNode, -32601, "Tool server endpoint not configured");
-            return;
-        }
-
-        validateToolFingerprintAsync(gatewayId, ref, server, toolName, isValid -> {
-            if (!isValid) {
-                sendToolDisabledResult(request, idNode);
-                return;
+        validateToolFingerprintAsync(gatewayId, route, idNode, responder, () -> {
+            String argumentsHash = responseCache.isCacheable(route) || callCoalescer.isCoalescable(route)
+                    ? envelope.argumentsHash(objectMapper)
+                    : null;
+            ToolResponseCache.Key cacheKey = responseCache.key(gatewayId, route, argumentsHash);
+            if (cacheKey != null) {
+                byte[] cached = responseCache.get(cacheKey);
+                if (cached != null) {
+                    responder.respond(resultMessage(idNode, cached));
+                    return;
+                }
             }
-            forwardToBackend(target, payload, acceptHeader, toolName, idNode, request);
-        });
-    }
-
-    private void forwardToBackend(BackendTarget target, String payload, String acceptHeader, String toolName,
-                                  JsonNode idNode, io.vertx.core.http.HttpServerRequest request) {
-        RequestOptions options = new RequestOptions()
-            .setHost(target.host)
-            .setPort(target.port)
-            .setSsl(target.ssl)
-            .setMethod(HttpMethod.POST)
-            .setTimeout(Duration.ofSeconds(30).toMillis())
-            .setURI(target.path);
-
-        getHttpClient().request(options).onComplete(backendResult -> {
-            if (backendResult.failed()) {
-                LOG.errorf(backendResult.cause(), "Tool call proxy failed for %s", toolName);
-                sendError(request, idNode, -32603, "Tool call failed");
+            String flightKey = callCoalescer.key(gatewayId, route, argumentsHash);
+            if (flightKey == null) {
+                callBackend(gatewayId, route, payload, call, idNode, responder, cacheKey);
                 return;
             }
-
-            HttpClientRequest backendRequest = backendResult.result();
-            backendRequest.putHeader("Content-Type", "application/json");
-            backendRequest.putHeader("Accept", acceptHeader);
-            applyServerHeaders(target, backendRequest);
-
-            backendRequest.send(payload).onComplete(responseResult -> {
-                if (responseResult.failed()) {
-                    LOG.errorf(responseResult.cause(), "Tool call proxy failed for %s", toolName);
-                    sendError(request, idNode, -32603, "Tool call failed");
-                    return;
-                }
-
-                HttpClientResponse backendResponse = responseResult.result();
-                String contentType = backendResponse.getHeader("content-type");
-                request.response().setChunked(true);
-                if (contentType != null && !contentType.isBlank()) {
-                    request.response().putHeader("Content-Type", contentType);
+            Context context = vertx.getOrCreateContext();
+            CallCoalescer.Flight flight = callCoalescer.join(flightKey, message -> context.runOnContext(ignored -> {
+                if (message == null) {
+                    callBackend(gatewayId, route, payload, call, idNode, responder, cacheKey);
+                } else {
+                    responder.respond(withId(message, idNode));
                 }
-                request.response().setStatusCode(backendResponse.statusCode());
-
-                backendResponse.handler(buffer -> request.response().write(buffer));
-                backendResponse.endHandler(done -> request.response().end());
-                backendResponse.exceptionHandler(error -> {
-                    LOG.errorf(error, "Tool call proxy stream failed for %s", toolName);
-                    if (!request.response().ended()) {
-                        request.response().end();
-                    }
-                });
-            });
+            }));
+            if (flight == null) {
+                metrics.tool(gatewayId, String.valueOf(route.getServerId()), toolName).callCoalesced().increment();
+                return;
+            }
+            callBackend(gatewayId, route, payload, call, idNode, new FanOutResponder(flight, responder), cacheKey);
         });
     }
 
-    private void applyServerHeaders(BackendTarget target, HttpClientRequest backendRequest) {
-        MCPServer server = getServer(target.serverId);
-        if (server == null) {
-            return;
-        }
+    private void callBackend(String gatewayId, GatewayToolRoute route, Buffer payload, CallContext call, JsonNode idNode,
+                             JsonRpcResponder responder, ToolResponseCache.Key cacheKey) {
+        ReplicaBalancer.Endpoint endpoint = replicaBalancer.select(route.getServer().getId(), route.getTargets(),
+                call.sessionId);
+        new BackendCall(gatewayId, route, payload, call.acceptHeader, idNode, responder, cacheKey).start(endpoint);
+    }
 
+    private void applyServerHeaders(MCPServer server, HttpClientRequest backendRequest) {
         String authType = server.getAuthorizationType();
         if (authType != null && authType.equalsIgnoreCase("BASIC")) {
             String username = server.getAuthUsername();
@@ -372,49 +446,38 @@ public class MCPServerProxy {
         }
     }
 
-    private void validateToolFingerprintAsync(String gatewayId, GatewayToolRef ref, MCPServer server, String toolName,
-                                              java.util.function.Consumer<Boolean> callback) {
-        CompletableFuture.supplyAsync(() -> validationService.validateToolFingerprint(gatewayId, ref, server, toolName))
-                .whenComplete((result, error) -> {
-                    if (error != null) {
-                        LOG.errorf(error, "Tool fingerprint validation failed for %s", toolName);
-                        callback.accept(false);
-                        return;
-                    }
-                    callback.accept(Boolean.TRUE.equals(result));
-                });
-    }
-
-
-    private BackendTarget buildBackendTarget(MCPServer server) {
-        if (server.getHost() == null || server.getPort() <= 0) {
-            return null;
-        }
-        boolean ssl = server.getProtocol() != null && server.getProtocol().equalsIgnoreCase("HTTPS");
-        String path = server.getRemotePath();
-        if (path == null || path.isBlank()) {
-            path = MCP_PATH;
-        }
-        if (!path.startsWith("/")) {
-            path = "/" + path;
+    private void validateToolFingerprintAsync(String gatewayId, GatewayToolRoute route, JsonNode idNode,
+                                              JsonRpcResponder responder, Runnable onValid) {
+        CompletableFuture<Boolean> validation = validationService.validateToolFingerprintAsync(gatewayId, route);
+        if (validation.isDone()) {
+            onValidation(route, idNode, responder, onValid, validation);
+            return;
         }
-        return new BackendTarget(server.getId(), server.getHost(), server.getPort(), ssl, path);
+        Context context = vertx.getOrCreateContext();
+        validation.whenComplete((result, error) -> context.runOnContext(ignored ->
+                onValidation(route, idNode, responder, onValid, validation)));
     }
 
-    private static final class BackendTarget {
-        private final String serverId;
-        private final String host;
-        private final int port;
-        private final boolean ssl;
-        private final String path;
-
-        private BackendTarget(String serverId, String host, int port, boolean ssl, String path) {
-            this.serverId = serverId;
-            this.host = host;
-            this.port = port;
-            this.ssl = ssl;
-            this.path = path;
+    private void onValidation(GatewayToolRoute route, JsonNode idNode, JsonRpcResponder responder, Runnable onValid,
+                              CompletableFuture<Boolean> validation) {
+        boolean valid;
+        try {
+            valid = Boolean.TRUE.equals(validation.join());
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RejectedExecutionException) {
+                LOG.warnf("Tool fingerprint validation for %s rejected: executor saturated", route.getToolName());
+            } else {
+                LOG.errorf(cause, "Tool fingerprint validation failed for %s", route.getToolName());
+            }
+            responder.respond(validationUnavailableMessage(idNode));
+            return;
         }
+        if (!valid) {
+            responder.respond(toolDisabledMessage(idNode));
+            return;
+        }
+        onValid.run();
     }
 
     private String normalizeAcceptHeader(String acceptHeader) {
@@ -469,8 +532,33 @@ public class MCPServerProxy {
         return result;
     }
 
-    private ObjectNode buildToolsListResponse(String gatewayId, JsonNode idNode) {
-        List<Tool> tools = resolveGatewayTools(gatewayId);
+    private Buffer buildToolsListResponse(String gatewayId, GatewayRoutingTable routingTable, JsonNode idNode) {
+        ProxyMetrics.GatewayMeters gatewayMeters = metrics.gateway(gatewayId);
+        byte[] tools = routingTable.getEncodedTools();
+        if (tools != null) {
+            gatewayMeters.toolsListHit().increment();
+        } else {
+            gatewayMeters.toolsListMiss().increment();
+            long start = System.nanoTime();
+            try {
+                tools = encodeTools(routingTable.getTools());
+            } catch (JsonProcessingException e) {
+                LOG.errorf(e, "Failed to encode tools/list for gateway %s", gatewayId);
+                return errorMessage(idNode, -32603, "Internal error");
+            }
+            gatewayMeters.toolsListRebuild().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            routingTable.setEncodedTools(tools);
+        }
+
+        return Buffer.buffer(tools.length + 64)
+                .appendString("{\"jsonrpc\":\"" + JSONRPC_VERSION + "\",\"id\":")
+                .appendString(idNode.toString())
+                .appendString(",\"result\":{\"tools\":")
+                .appendBytes(tools)
+                .appendString("}}");
+    }
+
+    private byte[] encodeTools(List<Tool> tools) throws JsonProcessingException {
         ArrayNode toolArray = objectMapper.createArrayNode();
         for (Tool tool : tools) {
             if (tool == null) {
@@ -478,15 +566,7 @@ public class MCPServerProxy {
             }
             toolArray.add(toolToJson(tool));
         }
-
-        ObjectNode resultPayload = objectMapper.createObjectNode();
-        resultPayload.set("tools", toolArray);
-
-        ObjectNode result = objectMapper.createObjectNode();
-        result.put("jsonrpc", JSONRPC_VERSION);
-        result.set("id", idNode);
-        result.set("result", resultPayload);
-        return result;
+        return objectMapper.writeValueAsBytes(toolArray);
     }
 
     private ObjectNode buildEmptyResult(JsonNode idNode) {
@@ -537,84 +617,94 @@ public class MCPServerProxy {
         return toolNode;
     }
 
-    private List<Tool> resolveGatewayTools(String gatewayId) {
-        MCPGateway gateway = getGateway(gatewayId);
-        if (gateway == null || gateway.getTools() == null) {
-            return List.of();
-        }
+    private Buffer toBuffer(ObjectNode message) {
+        return Buffer.buffer(message.toString());
+    }
 
-        List<MCPServer> servers = serverRepository.loadAll();
-        List<Tool> results = new ArrayList<>();
-        for (GatewayToolRef ref : gateway.getTools()) {
-            if (ref == null) {
-                continue;
-            }
-            MCPServer server = servers.stream()
-                    .filter(item -> item != null && ref.getServerId() != null && ref.getServerId().equals(item.getId()))
-                    .findFirst()
-                    .orElse(null);
-            if (server == null || server.getTools() == null) {
-                continue;
-            }
-            server.getTools().stream()
-                    .filter(tool -> tool != null && ref.getToolName() != null && ref.getToolName().equals(tool.getName()))
-                    .findFirst()
-                    .ifPresent(results::add);
+    private Buffer errorMessage(JsonNode idNode, int code, String message) {
+        return errorMessage(idNode, code, message, null);
+    }
+
+    private Buffer errorMessage(JsonNode idNode, int code, String message, JsonNode data) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("code", code);
+        error.put("message", message);
+        if (data != null) {
+            error.set("data", data);
         }
 
-        return results;
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("jsonrpc", JSONRPC_VERSION);
+        if (idNode != null && !idNode.isNull()) {
+            payload.set("id", idNode);
+        }
+        payload.set("error", error);
+        return toBuffer(payload);
     }
 
-    private MCPGateway getGateway(String gatewayId) {
-        Map<String, MCPGateway> gateways = gatewayRepository.loadAll();
-        return gateways.get(gatewayId);
+    private Buffer resultMessage(JsonNode idNode, byte[] result) {
+        return Buffer.buffer(result.length + 64)
+                .appendString("{\"jsonrpc\":\"" + JSONRPC_VERSION + "\",\"id\":")
+                .appendString(idNode.toString())
+                .appendString(",\"result\":")
+                .appendBytes(result)
+                .appendString("}");
     }
 
-    private MCPServer getServer(String serverId) {
-        return serverRepository.loadAll().stream()
-                .filter(server -> server != null && serverId != null && serverId.equals(server.getId()))
-                .findFirst()
-                .orElse(null);
+    private Buffer withId(Buffer message, JsonNode idNode) {
+        try {
+            JsonNode parsed = objectMapper.readTree(new BufferInputStream(message));
+            if (parsed instanceof ObjectNode) {
+                ((ObjectNode) parsed).set("id", idNode);
+                return toBuffer((ObjectNode) parsed);
+            }
+        } catch (IOException e) {
+            LOG.debugf("Unable to rewrite coalesced response id: %s", e.getMessage());
+        }
+        return errorMessage(idNode, -32603, "Tool call failed");
     }
 
-    private String buildServerUrl(MCPServer server) {
-        if (server.getHost() == null || server.getPort() <= 0) {
-            return null;
-        }
-        String protocol = server.getProtocol() != null && server.getProtocol().equalsIgnoreCase("HTTPS") ? "https" : "http";
-        String path = server.getRemotePath();
-        if (path == null || path.isBlank()) {
-            path = MCP_PATH;
-        }
-        if (!path.startsWith("/")) {
-            path = "/" + path;
-        }
-        return protocol + "://" + server.getHost() + ":" + server.getPort() + path;
+    private Buffer throttledMessage(JsonNode idNode, RateLimiterRegistry.Admission admission) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("retryAfterMillis", admission.retryAfterMillis());
+        data.put("scope", admission.scope());
+        data.put("reason", admission.reason());
+        return errorMessage(idNode, -32002, "Rate limit exceeded", data);
     }
 
-    private void sendJson(io.vertx.core.http.HttpServerRequest request, ObjectNode response) {
-        request.response()
-                .putHeader("Content-Type", "application/json")
-                .setStatusCode(200)
-                .end(response.toString());
+    private Buffer unavailableMessage(JsonNode idNode, long retryAfterMillis) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("retryAfterMillis", retryAfterMillis);
+        return errorMessage(idNode, -32001, "Tool server unavailable", data);
     }
 
-    private void sendError(io.vertx.core.http.HttpServerRequest request, JsonNode idNode, int code, String message) {
-        ObjectNode error = objectMapper.createObjectNode();
-        error.put("code", code);
-        error.put("message", message);
+    private Buffer validationUnavailableMessage(JsonNode idNode) {
+        metrics.validationUnavailable().increment();
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("retryAfterMillis", validationRetryAfterMillis);
+        return errorMessage(idNode, -32001, "Tool validation unavailable", data);
+    }
 
+    private Buffer toolDisabledMessage(JsonNode idNode) {
+        metrics.toolDisabled().increment();
         ObjectNode payload = objectMapper.createObjectNode();
         payload.put("jsonrpc", JSONRPC_VERSION);
         if (idNode != null && !idNode.isNull()) {
             payload.set("id", idNode);
         }
-        payload.set("error", error);
+        payload.put("result", TOOL_DISABLED_MESSAGE);
+        return toBuffer(payload);
+    }
 
+    private void sendJson(io.vertx.core.http.HttpServerRequest request, Buffer response) {
         request.response()
                 .putHeader("Content-Type", "application/json")
                 .setStatusCode(200)
-                .end(payload.toString());
+                .end(response);
+    }
+
+    private void sendError(io.vertx.core.http.HttpServerRequest request, JsonNode idNode, int code, String message) {
+        sendJson(request, errorMessage(idNode, code, message));
     }
 
     private void sendUnauthorized(io.vertx.core.http.HttpServerRequest request) {
@@ -624,19 +714,568 @@ public class MCPServerProxy {
                 .end();
     }
 
-    private void sendToolDisabledResult(io.vertx.core.http.HttpServerRequest request, JsonNode idNode) {
-        meterRegistry.counter("mcp.tool.disabled.count").increment();
-        ObjectNode payload = objectMapper.createObjectNode();
-        payload.put("jsonrpc", JSONRPC_VERSION);
-        if (idNode != null && !idNode.isNull()) {
-            payload.set("id", idNode);
+    private Buffer extractJsonRpcMessage(String contentType, Buffer body) {
+        if (contentType == null || !contentType.toLowerCase().contains("text/event-stream")) {
+            return body;
         }
-        payload.put("result", TOOL_DISABLED_MESSAGE);
+        String message = null;
+        StringBuilder data = new StringBuilder();
+        for (String line : body.toString().split("\\r?\\n")) {
+            if (line.startsWith("data:")) {
+                data.append(line.substring(5).trim());
+            } else if (line.isBlank() && data.length() > 0) {
+                message = data.toString();
+                data.setLength(0);
+            }
+        }
+        if (data.length() > 0) {
+            message = data.toString();
+        }
+        return message == null ? null : Buffer.buffer(message);
+    }
 
-        request.response()
-                .putHeader("Content-Type", "application/json")
-                .setStatusCode(200)
-                .end(payload.toString());
+    private static boolean isJsonObject(Buffer message) {
+        if (message == null) {
+            return false;
+        }
+        for (int i = 0; i < message.length(); i++) {
+            byte b = message.getByte(i);
+            if (!Character.isWhitespace(b)) {
+                return b == '{';
+            }
+        }
+        return false;
+    }
+
+    private static final class CallContext {
+        private final MCPGateway gateway;
+        private final String acceptHeader;
+        private final String sessionId;
+        private final String clientId;
+
+        private CallContext(MCPGateway gateway, String acceptHeader, String sessionId, String clientId) {
+            this.gateway = gateway;
+            this.acceptHeader = acceptHeader;
+            this.sessionId = sessionId;
+            this.clientId = clientId;
+        }
+    }
+
+    private final class BackendCall {
+        private final String gatewayId;
+        private final GatewayToolRoute route;
+        private final MCPServer server;
+        private final Buffer payload;
+        private final String acceptHeader;
+        private final JsonNode idNode;
+        private final JsonRpcResponder responder;
+        private final ToolResponseCache.Key cacheKey;
+        private final List<Attempt> attempts = new ArrayList<>(2);
+        private boolean completed;
+        private long hedgeTimer = -1;
+
+        private BackendCall(String gatewayId, GatewayToolRoute route, Buffer payload, String acceptHeader,
+                            JsonNode idNode, JsonRpcResponder responder, ToolResponseCache.Key cacheKey) {
+            this.gatewayId = gatewayId;
+            this.route = route;
+            this.server = route.getServer();
+            this.payload = payload;
+            this.acceptHeader = acceptHeader;
+            this.idNode = idNode;
+            this.responder = responder;
+            this.cacheKey = cacheKey;
+        }
+
+        private void start(ReplicaBalancer.Endpoint endpoint) {
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(server.getId());
+            if (permit == null) {
+                LOG.debugf("Shedding call to %s: server %s is at its concurrency limit", route.getToolName(),
+                        server.getId());
+                responder.respond(unavailableMessage(idNode, concurrencyLimiter.retryAfterMillis(server.getId())));
+                return;
+            }
+            BackendCircuitBreaker.Permit breakerPermit = circuitBreakers.tryAcquire(server.getId());
+            if (breakerPermit == null) {
+                permit.release();
+                responder.respond(unavailableMessage(idNode, circuitBreakers.retryAfterMillis(server.getId())));
+                return;
+            }
+            boolean hedgeable = route.isIdempotent() && hedgingPolicy.isEnabled();
+            if (hedgeable) {
+                hedgingPolicy.onRequest(server.getId());
+            }
+            send(endpoint, false, permit, breakerPermit);
+            if (hedgeable && !completed) {
+                long delay = Math.max(1, hedgingPolicy.hedgeDelayMillis(server.getId(), route.getToolName()));
+                hedgeTimer = vertx.setTimer(delay, ignored -> hedge(endpoint));
+            }
+        }
+
+        private void hedge(ReplicaBalancer.Endpoint primary) {
+            hedgeTimer = -1;
+            if (completed || !hedgingPolicy.tryAcquireHedge(server.getId())) {
+                return;
+            }
+            AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(server.getId());
+            if (permit == null) {
+                return;
+            }
+            BackendCircuitBreaker.Permit breakerPermit = circuitBreakers.tryAcquire(server.getId());
+            if (breakerPermit == null) {
+                permit.release();
+                return;
+            }
+            metrics.tool(gatewayId, String.valueOf(route.getServerId()), route.getToolName()).hedgeFired().increment();
+            send(replicaBalancer.selectAlternate(server.getId(), route.getTargets(), primary), true, permit,
+                    breakerPermit);
+        }
+
+        private void send(ReplicaBalancer.Endpoint endpoint, boolean hedge, AdaptiveConcurrencyLimiter.Permit permit,
+                          BackendCircuitBreaker.Permit breakerPermit) {
+            Attempt attempt = new Attempt(endpoint, hedge, permit, breakerPermit);
+            attempts.add(attempt);
+            BackendTarget target = endpoint.target();
+            RequestOptions options = new RequestOptions()
+                .setHost(target.host)
+                .setPort(target.port)
+                .setSsl(target.ssl)
+                .setMethod(HttpMethod.POST)
+                .setTimeout(requestTimeoutMillis)
+                .setURI(target.path);
+
+            attempt.client.httpClient().request(options).onComplete(backendResult -> {
+                if (backendResult.failed()) {
+                    attempt.client.requestRejected();
+                    failed(attempt, backendResult.cause());
+                    return;
+                }
+                attempt.client.requestStarted();
+                attempt.started = true;
+                HttpClientRequest backendRequest = backendResult.result();
+                if (attempt.cancelled) {
+                    backendRequest.reset();
+                    attempt.release();
+                    return;
+                }
+                attempt.request = backendRequest;
+                backendRequest.putHeader("Content-Type", "application/json");
+                backendRequest.putHeader("Accept", acceptHeader);
+                applyServerHeaders(server, backendRequest);
+
+                backendRequest.send(payload).onComplete(responseResult -> {
+                    if (responseResult.failed()) {
+                        failed(attempt, responseResult.cause());
+                        return;
+                    }
+                    succeeded(attempt, responseResult.result());
+                });
+            });
+        }
+
+        private void failed(Attempt attempt, Throwable cause) {
+            attempt.release();
+            if (attempt.cancelled) {
+                return;
+            }
+            attempt.settle(false);
+            LOG.errorf(cause, "Tool call proxy failed for %s", route.getToolName());
+            if (completed || attempts.stream().anyMatch(other -> !other.settled)) {
+                return;
+            }
+            complete();
+            responder.respond(errorMessage(idNode, -32603, "Tool call failed"));
+        }
+
+        private void succeeded(Attempt attempt, HttpClientResponse response) {
+            if (attempt.cancelled) {
+                attempt.release();
+                return;
+            }
+            boolean success = response.statusCode() < 500;
+            attempt.settle(success);
+            complete();
+            if (success && route.isIdempotent()) {
+                hedgingPolicy.recordLatency(server.getId(), route.getToolName(), attempt.elapsedMillis());
+            }
+            if (attempt.hedge) {
+                metrics.tool(gatewayId, String.valueOf(route.getServerId()), route.getToolName()).hedgeWon().increment();
+            }
+            for (Attempt other : attempts) {
+                if (other != attempt) {
+                    other.cancel();
+                }
+            }
+            RelayListener listener = cacheKey != null && response.statusCode() == 200
+                    ? new CachingListener(cacheKey, response.getHeader("content-type"), attempt::release)
+                    : completed -> attempt.release();
+            responder.relay(response, route.getToolName(), idNode, listener);
+        }
+
+        private void complete() {
+            completed = true;
+            if (hedgeTimer >= 0) {
+                vertx.cancelTimer(hedgeTimer);
+                hedgeTimer = -1;
+            }
+        }
+
+        private final class Attempt {
+            private final ReplicaBalancer.Endpoint endpoint;
+            private final boolean hedge;
+            private final AdaptiveConcurrencyLimiter.Permit permit;
+            private final BackendCircuitBreaker.Permit breakerPermit;
+            private final BackendClientPool.BackendClient client;
+            private final long start = System.nanoTime();
+            private HttpClientRequest request;
+            private boolean started;
+            private boolean released;
+            private boolean settled;
+            private boolean cancelled;
+
+            private Attempt(ReplicaBalancer.Endpoint endpoint, boolean hedge,
+                            AdaptiveConcurrencyLimiter.Permit permit, BackendCircuitBreaker.Permit breakerPermit) {
+                this.endpoint = endpoint;
+                this.hedge = hedge;
+                this.permit = permit;
+                this.breakerPermit = breakerPermit;
+                this.client = clientPool.client(server);
+                endpoint.start();
+            }
+
+            private void settle(boolean success) {
+                if (settled) {
+                    return;
+                }
+                settled = true;
+                endpoint.finish(success);
+                breakerPermit.onResult(success, elapsedMillis(), System.currentTimeMillis());
+                permit.onSample(System.nanoTime() - start, success);
+            }
+
+            private void cancel() {
+                if (settled) {
+                    return;
+                }
+                settled = true;
+                cancelled = true;
+                endpoint.cancel();
+                breakerPermit.release();
+                permit.release();
+                if (request != null) {
+                    request.reset();
+                    release();
+                }
+            }
+
+            private void release() {
+                if (started && !released) {
+                    released = true;
+                    client.requestFinished();
+                }
+            }
+
+            private long elapsedMillis() {
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private interface RelayListener {
+        default void onChunk(Buffer chunk) {
+        }
+
+        void onEnd(boolean completed);
+    }
+
+    private final class CachingListener implements RelayListener {
+        private final ToolResponseCache.Key key;
+        private final String contentType;
+        private final Runnable release;
+        private Buffer body = Buffer.buffer();
+
+        private CachingListener(ToolResponseCache.Key key, String contentType, Runnable release) {
+            this.key = key;
+            this.contentType = contentType;
+            this.release = release;
+        }
+
+        @Override
+        public void onChunk(Buffer chunk) {
+            if (body == null) {
+                return;
+            }
+            body.appendBuffer(chunk);
+            if (body.length() > key.maxCapturedBytes()) {
+                body = null;
+            }
+        }
+
+        @Override
+        public void onEnd(boolean completed) {
+            release.run();
+            if (completed && body != null) {
+                responseCache.put(key, extractJsonRpcMessage(contentType, body));
+            }
+            body = null;
+        }
+    }
+
+    private static final class ReleasingResponder implements JsonRpcResponder {
+        private final JsonRpcResponder delegate;
+        private final Runnable release;
+
+        private ReleasingResponder(JsonRpcResponder delegate, Runnable release) {
+            this.delegate = delegate;
+            this.release = release;
+        }
+
+        @Override
+        public void respond(Buffer message) {
+            delegate.respond(message);
+            release.run();
+        }
+
+        @Override
+        public void relay(HttpClientResponse backendResponse, String toolName, JsonNode idNode, RelayListener listener) {
+            delegate.relay(backendResponse, toolName, idNode, new RelayListener() {
+                @Override
+                public void onChunk(Buffer chunk) {
+                    listener.onChunk(chunk);
+                }
+
+                @Override
+                public void onEnd(boolean completed) {
+                    listener.onEnd(completed);
+                    release.run();
+                }
+            });
+        }
+    }
+
+    private final class FanOutResponder implements JsonRpcResponder {
+        private final CallCoalescer.Flight flight;
+        private final JsonRpcResponder delegate;
+
+        private FanOutResponder(CallCoalescer.Flight flight, JsonRpcResponder delegate) {
+            this.flight = flight;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void respond(Buffer message) {
+            delegate.respond(message);
+            flight.complete(message);
+        }
+
+        @Override
+        public void relay(HttpClientResponse backendResponse, String toolName, JsonNode idNode, RelayListener listener) {
+            String contentType = backendResponse.getHeader("content-type");
+            delegate.relay(backendResponse, toolName, idNode, new RelayListener() {
+                private Buffer body = Buffer.buffer();
+
+                @Override
+                public void onChunk(Buffer chunk) {
+                    listener.onChunk(chunk);
+                    if (body != null) {
+                        body.appendBuffer(chunk);
+                        if (body.length() > callCoalescer.maxResponseBytes()) {
+                            body = null;
+                        }
+                    }
+                }
+
+                @Override
+                public void onEnd(boolean completed) {
+                    listener.onEnd(completed);
+                    if (!completed) {
+                        flight.complete(errorMessage(idNode, -32603, "Tool call failed"));
+                        return;
+                    }
+                    Buffer message = body != null ? extractJsonRpcMessage(contentType, body) : null;
+                    body = null;
+                    flight.complete(isJsonObject(message) ? message : null);
+                }
+            });
+        }
+    }
+
+    private interface JsonRpcResponder {
+        void respond(Buffer message);
+
+        void relay(HttpClientResponse backendResponse, String toolName, JsonNode idNode, RelayListener listener);
+    }
+
+    private final class DirectResponder implements JsonRpcResponder {
+        private final String gatewayId;
+        private final io.vertx.core.http.HttpServerRequest request;
+
+        private DirectResponder(String gatewayId, io.vertx.core.http.HttpServerRequest request) {
+            this.gatewayId = gatewayId;
+            this.request = request;
+        }
+
+        @Override
+        public void respond(Buffer message) {
+            sendJson(request, message);
+        }
+
+        @Override
+        public void relay(HttpClientResponse backendResponse, String toolName, JsonNode idNode, RelayListener listener) {
+            String contentType = backendResponse.getHeader("content-type");
+            HttpServerResponse response = request.response();
+            response.setChunked(true);
+            response.setWriteQueueMaxSize(streamHighWaterMarkBytes);
+            if (contentType != null && !contentType.isBlank()) {
+                response.putHeader("Content-Type", contentType);
+            }
+            response.setStatusCode(backendResponse.statusCode());
+
+            StreamBackpressure stream = new StreamBackpressure(metrics.gateway(gatewayId));
+            response.drainHandler(ignored -> {
+                if (stream.resume()) {
+                    backendResponse.resume();
+                }
+            });
+            response.closeHandler(ignored -> {
+                if (!response.ended()) {
+                    backendResponse.request().reset();
+                }
+            });
+            backendResponse.handler(buffer -> {
+                listener.onChunk(buffer);
+                int length = buffer.length();
+                stream.queued(length);
+                response.write(buffer).onComplete(ignored -> stream.flushed(length));
+                if (response.writeQueueFull() && stream.pause()) {
+                    backendResponse.pause();
+                }
+            });
+            backendResponse.endHandler(done -> {
+                listener.onEnd(true);
+                stream.finish();
+                response.end();
+            });
+            backendResponse.exceptionHandler(error -> {
+                listener.onEnd(false);
+                stream.finish();
+                LOG.errorf(error, "Tool call proxy stream failed for %s", toolName);
+                if (!response.ended()) {
+                    response.end();
+                }
+            });
+        }
+    }
+
+    private static final class StreamBackpressure {
+        private final ProxyMetrics.GatewayMeters meters;
+        private long buffered;
+        private long peakBuffered;
+        private long pausedAt = -1;
+        private long pausedNanos;
+        private boolean finished;
+
+        private StreamBackpressure(ProxyMetrics.GatewayMeters meters) {
+            this.meters = meters;
+        }
+
+        private void queued(int length) {
+            buffered += length;
+            peakBuffered = Math.max(peakBuffered, buffered);
+        }
+
+        private void flushed(int length) {
+            buffered -= length;
+        }
+
+        private boolean pause() {
+            if (pausedAt >= 0) {
+                return false;
+            }
+            pausedAt = System.nanoTime();
+            meters.streamPauses().increment();
+            return true;
+        }
+
+        private boolean resume() {
+            if (pausedAt < 0) {
+                return false;
+            }
+            pausedNanos += System.nanoTime() - pausedAt;
+            pausedAt = -1;
+            return true;
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            resume();
+            meters.streamPaused().record(pausedNanos, TimeUnit.NANOSECONDS);
+            meters.streamBuffered().record(peakBuffered);
+        }
+    }
+
+    private final class BatchResponder implements JsonRpcResponder {
+        private final BatchCollector collector;
+
+        private BatchResponder(BatchCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void respond(Buffer message) {
+            collector.add(message);
+        }
+
+        @Override
+        public void relay(HttpClientResponse backendResponse, String toolName, JsonNode idNode, RelayListener listener) {
+            String contentType = backendResponse.getHeader("content-type");
+            backendResponse.body().onComplete(bodyResult -> {
+                if (bodyResult.succeeded()) {
+                    listener.onChunk(bodyResult.result());
+                }
+                listener.onEnd(bodyResult.succeeded());
+                if (bodyResult.failed()) {
+                    LOG.errorf(bodyResult.cause(), "Tool call proxy stream failed for %s", toolName);
+                    respond(errorMessage(idNode, -32603, "Tool call failed"));
+                    return;
+                }
+                Buffer message = extractJsonRpcMessage(contentType, bodyResult.result());
+                if (!isJsonObject(message)) {
+                    LOG.warnf("Tool call for %s returned no JSON-RPC response (status %d)", toolName,
+                            backendResponse.statusCode());
+                    respond(errorMessage(idNode, -32603, "Tool call failed"));
+                    return;
+                }
+                respond(message);
+            });
+        }
+    }
+
+    // Responses are written as they complete; JSON-RPC clients match batch responses by id.
+    private static final class BatchCollector {
+        private final io.vertx.core.http.HttpServerRequest request;
+        private int remaining;
+        private boolean first = true;
+
+        private BatchCollector(io.vertx.core.http.HttpServerRequest request, int expected) {
+            this.request = request;
+            this.remaining = expected;
+        }
+
+        private synchronized void add(Buffer message) {
+            if (remaining <= 0) {
+                return;
+            }
+            request.response().write(first ? "[" : ",");
+            first = false;
+            request.response().write(message);
+            remaining--;
+            if (remaining == 0) {
+                request.response().end("]");
+            }
+        }
     }
 
 }
@@ -14,12 +14,14 @@ import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 import org.ozzy.model.MCPServer;
 import org.ozzy.model.InputSchema;
 import org.ozzy.model.Tool;
 import org.ozzy.persistence.MCPServerRepository;
 import org.ozzy.util.CertificatePinningUtil;
+import org.ozzy.util.ToolFingerprintUtil;
 import org.ozzy.util.ToolUtil;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -41,12 +43,47 @@ public class MCPServerService {
     @Inject
     MeterRegistry meterRegistry;
 
+    @Inject
+    MCPRegistry registry;
+
+    @Inject
+    BackendClientPool clientPool;
+
+    @Inject
+    ToolValidationService validationService;
+
+    @Inject
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Inject
+    ReplicaBalancer replicaBalancer;
+
+    @Inject
+    HedgingPolicy hedgingPolicy;
+
+    @Inject
+    AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @ConfigProperty(name = "mcp.validation.fingerprint-version", defaultValue = "1")
+    int fingerprintVersion;
+
     @PostConstruct
     void init() {
         List<MCPServer> loaded = serverRepository.loadAll();
         synchronized (lock) {
             servers.clear();
             servers.addAll(loaded);
+            boolean backfilled = false;
+            for (MCPServer server : servers) {
+                if (server.getToolCatalogHash() == null && server.getTools() != null && !server.getTools().isEmpty()) {
+                    applyCatalogFingerprints(server);
+                    backfilled = true;
+                }
+            }
+            if (backfilled) {
+                serverRepository.saveAll(servers);
+            }
+            registry.publishServers(servers);
         }
     }
 
@@ -61,8 +98,10 @@ public class MCPServerService {
             if (server.getId() == null || server.getId().isBlank()) {
                 server.setId(java.util.UUID.randomUUID().toString());
             }
+            applyCatalogFingerprints(server);
             servers.add(server);
             serverRepository.saveAll(servers);
+            registry.publishServers(servers);
             LOG.debugf("Added server %s", server.getName());
             meterRegistry.counter("mcp.server.create.count").increment();
             return server;
@@ -77,9 +116,17 @@ public class MCPServerService {
             }
             MCPServer removed = servers.remove(index);
             serverRepository.saveAll(servers);
+            registry.publishServers(servers);
             if (gatewayService != null) {
                 gatewayService.removeToolsForServer(id);
             }
+            clientPool.evict(id);
+            circuitBreakers.evict(id);
+            replicaBalancer.evict(id);
+            hedgingPolicy.evict(id);
+            concurrencyLimiter.evict(id);
+            validationService.evictServer(id);
+            CertificatePinningUtil.evict(id);
             LOG.debugf("Deleted server %s", id);
             meterRegistry.counter("mcp.server.delete.count").increment();
             return removed;
@@ -95,8 +142,12 @@ public class MCPServerService {
             if (updatedServer.getId() == null || !updatedServer.getId().equals(id)) {
                 updatedServer.setId(id);
             }
+            applyCatalogFingerprints(updatedServer);
             servers.set(index, updatedServer);
             serverRepository.saveAll(servers);
+            registry.publishServers(servers);
+            validationService.evictServer(id);
+            circuitBreakers.evict(id);
             LOG.debugf("Updated server %s", id);
             meterRegistry.counter("mcp.server.update.count").increment();
             return updatedServer;
@@ -126,7 +177,9 @@ public class MCPServerService {
             if (tools != null) {
                 markNeverValidated(tools);
                 server.setTools(tools);
+                applyCatalogFingerprints(server);
                 serverRepository.saveAll(servers);
+                registry.publishServers(servers);
                 meterRegistry.counter("mcp.server.tools.read.count").increment();
                 return new ArrayList<>(tools);
             }
@@ -199,7 +252,9 @@ public class MCPServerService {
             result.setMatch(allMatch);
 
             server.setTools(allMatch ? current : stored);
+            applyCatalogFingerprints(server);
             serverRepository.saveAll(servers);
+            registry.publishServers(servers);
 
             meterRegistry.counter("mcp.server.tools.compare.count", "match", Boolean.toString(allMatch)).increment();
 
@@ -218,7 +273,10 @@ public class MCPServerService {
                 long now = System.currentTimeMillis();
                 tools.forEach(tool -> applyValidationStatus(tool, true, now));
                 server.setTools(tools);
+                applyCatalogFingerprints(server);
                 serverRepository.saveAll(servers);
+                registry.publishServers(servers);
+                validationService.evictServer(id);
                 meterRegistry.counter("mcp.server.tools.approve.count").increment();
                 return new ArrayList<>(tools);
             }
@@ -226,6 +284,18 @@ public class MCPServerService {
         }
     }
 
+    public CircuitBreakerStatus getCircuitBreakerStatus(String id) {
+        return getServer(id) == null ? null : circuitBreakers.status(id);
+    }
+
+    public CircuitBreakerStatus resetCircuitBreaker(String id) {
+        if (getServer(id) == null) {
+            return null;
+        }
+        LOG.infof("Resetting circuit breaker for server %s", id);
+        return circuitBreakers.reset(id);
+    }
+
     public MCPServer getServer(String id) {
         synchronized (lock) {
             int index = findIndexById(id);
@@ -264,7 +334,7 @@ public class MCPServerService {
         }
         String url = scheme + "://" + server.getHost() + ":" + server.getPort() + path;
         ToolUtil toolUtil = new ToolUtil();
-        return toolUtil.getTools(url, buildServerHeaders(server));
+        return toolUtil.getTools(url, buildServerHeaders(server), CertificatePinningUtil.trustManager(server));
     }
 
     private java.util.Map<String, String> buildServerHeaders(MCPServer server) {
@@ -343,6 +413,21 @@ public class MCPServerService {
         return value == null ? "" : value;
     }
 
+    private void applyCatalogFingerprints(MCPServer server) {
+        List<Tool> tools = server.getTools();
+        if (tools == null || tools.isEmpty()) {
+            server.setToolCatalogHash(null);
+            return;
+        }
+        for (Tool tool : tools) {
+            if (tool != null) {
+                tool.setFingerprint(ToolFingerprintUtil.fingerprint(tool,
+                        ToolFingerprintUtil.preferredVersion(tool, fingerprintVersion)));
+            }
+        }
+        server.setToolCatalogHash(ToolFingerprintUtil.catalogHash(tools));
+    }
+
     private void applyValidationStatus(Tool tool, boolean match, long now) {
         if (tool == null) {
             return;
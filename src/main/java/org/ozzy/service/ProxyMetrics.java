@@ -0,0 +1,328 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@ApplicationScoped
+public class ProxyMetrics {
+
+    private static final List<String> METHODS = List.of("initialize", "tools/list", "tools/call", "ping", "unknown");
+    private static final List<String> THROTTLE_SCOPES = List.of(RateLimiterRegistry.SCOPE_GATEWAY,
+            RateLimiterRegistry.SCOPE_CLIENT, RateLimiterRegistry.SCOPE_TOOL);
+    private static final List<String> THROTTLE_REASONS = List.of(RateLimiterRegistry.REASON_RATE,
+            RateLimiterRegistry.REASON_CONCURRENCY);
+
+    private final Map<String, GatewayMeters> gateways = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+    private final Map<String, Counter> refresh = new ConcurrentHashMap<>();
+    private final Map<String, Counter> catalogHash = new ConcurrentHashMap<>();
+    private volatile Counter toolDisabled;
+    private volatile Counter validationUnavailable;
+    private volatile Counter catalogHit;
+    private volatile Counter catalogMiss;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    public ProxyMetrics() {
+    }
+
+    ProxyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    GatewayMeters gateway(String gatewayId) {
+        GatewayMeters meters = gateways.get(gatewayId);
+        return meters != null ? meters : gateways.computeIfAbsent(gatewayId, GatewayMeters::new);
+    }
+
+    ToolMeters tool(String gatewayId, String serverId, String toolName) {
+        return gateway(gatewayId).tool(serverId, toolName);
+    }
+
+    Counter toolDisabled() {
+        Counter counter = toolDisabled;
+        if (counter == null) {
+            counter = meterRegistry.counter("mcp.tool.disabled.count");
+            toolDisabled = counter;
+        }
+        return counter;
+    }
+
+    Counter validationUnavailable() {
+        Counter counter = validationUnavailable;
+        if (counter == null) {
+            counter = meterRegistry.counter("mcp.tool.validation.unavailable.count");
+            validationUnavailable = counter;
+        }
+        return counter;
+    }
+
+    Counter coalesced(String stage) {
+        Counter counter = coalesced.get(stage);
+        return counter != null ? counter : coalesced.computeIfAbsent(stage,
+                key -> meterRegistry.counter("mcp.tool.validation.coalesced.count", "stage", key));
+    }
+
+    Counter refresh(String result) {
+        Counter counter = refresh.get(result);
+        return counter != null ? counter : refresh.computeIfAbsent(result,
+                key -> meterRegistry.counter("mcp.tool.validation.refresh.count", "result", key));
+    }
+
+    Counter catalogHash(boolean match) {
+        String result = match ? "match" : "mismatch";
+        Counter counter = catalogHash.get(result);
+        return counter != null ? counter : catalogHash.computeIfAbsent(result,
+                key -> meterRegistry.counter("mcp.tool.validation.catalog.hash.count", "result", key));
+    }
+
+    Counter catalog(boolean hit) {
+        Counter counter = hit ? catalogHit : catalogMiss;
+        if (counter == null) {
+            counter = meterRegistry.counter("mcp.tool.validation.catalog.count", "result", hit ? "hit" : "miss");
+            if (hit) {
+                catalogHit = counter;
+            } else {
+                catalogMiss = counter;
+            }
+        }
+        return counter;
+    }
+
+    synchronized void sync(MCPRegistrySnapshot snapshot) {
+        Set<String> gatewayIds = snapshot.getGateways().keySet();
+        gateways.entrySet().removeIf(entry -> {
+            if (gatewayIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().remove();
+            return true;
+        });
+
+        for (String gatewayId : gatewayIds) {
+            GatewayMeters meters = gateway(gatewayId);
+            Set<String> toolKeys = new HashSet<>();
+            for (GatewayToolRoute route : snapshot.getRoutingTable(gatewayId).getRoutes()) {
+                meters.tool(String.valueOf(route.getServerId()), route.getToolName());
+                toolKeys.add(toolKey(String.valueOf(route.getServerId()), route.getToolName()));
+            }
+            meters.tools.entrySet().removeIf(entry -> {
+                if (toolKeys.contains(entry.getKey())) {
+                    return false;
+                }
+                entry.getValue().remove();
+                return true;
+            });
+        }
+    }
+
+    int gatewayCount() {
+        return gateways.size();
+    }
+
+    private static String toolKey(String serverId, String toolName) {
+        return serverId + "|" + toolName;
+    }
+
+    final class GatewayMeters {
+        private final String gatewayId;
+        private final List<Meter> meters = new ArrayList<>();
+        private final Map<String, ToolMeters> tools = new ConcurrentHashMap<>();
+        private final Map<String, Counter> requests = new ConcurrentHashMap<>();
+        private final Map<String, Counter> throttled = new ConcurrentHashMap<>();
+        private final Counter authSuccess;
+        private final Counter authFailure;
+        private final Counter batchCount;
+        private final DistributionSummary batchSize;
+        private final Counter toolsListHit;
+        private final Counter toolsListMiss;
+        private final Timer toolsListRebuild;
+        private final Counter streamPauses;
+        private final Timer streamPaused;
+        private final DistributionSummary streamBuffered;
+
+        private GatewayMeters(String gatewayId) {
+            this.gatewayId = gatewayId;
+            this.authSuccess = track(meterRegistry.counter("mcp.gateway.auth.success.count", "gatewayId", gatewayId));
+            this.authFailure = track(meterRegistry.counter("mcp.gateway.auth.failure.count", "gatewayId", gatewayId));
+            this.batchCount = track(meterRegistry.counter("mcp.gateway.batch.count", "gatewayId", gatewayId));
+            this.batchSize = track(meterRegistry.summary("mcp.gateway.batch.size", "gatewayId", gatewayId));
+            this.toolsListHit = track(meterRegistry.counter("mcp.gateway.tools.list.cache.hit.count", "gatewayId", gatewayId));
+            this.toolsListMiss = track(meterRegistry.counter("mcp.gateway.tools.list.cache.miss.count", "gatewayId", gatewayId));
+            this.toolsListRebuild = track(meterRegistry.timer("mcp.gateway.tools.list.cache.rebuild.duration", "gatewayId", gatewayId));
+            this.streamPauses = track(meterRegistry.counter("mcp.gateway.stream.pause.count", "gatewayId", gatewayId));
+            this.streamPaused = track(meterRegistry.timer("mcp.gateway.stream.paused.duration", "gatewayId", gatewayId));
+            this.streamBuffered = track(meterRegistry.summary("mcp.gateway.stream.buffered.bytes", "gatewayId", gatewayId));
+            for (String method : METHODS) {
+                requests.put(method, track(meterRegistry.counter("mcp.gateway.request.count",
+                        "method", method, "gatewayId", gatewayId)));
+            }
+            for (String scope : THROTTLE_SCOPES) {
+                for (String reason : THROTTLE_REASONS) {
+                    throttled.put(scope + "|" + reason, track(meterRegistry.counter("mcp.gateway.throttled.count",
+                            "gatewayId", gatewayId, "scope", scope, "reason", reason)));
+                }
+            }
+        }
+
+        private <M extends Meter> M track(M meter) {
+            meters.add(meter);
+            return meter;
+        }
+
+        ToolMeters tool(String serverId, String toolName) {
+            String key = toolKey(serverId, toolName);
+            ToolMeters meters = tools.get(key);
+            return meters != null ? meters : tools.computeIfAbsent(key, ignored -> new ToolMeters(gatewayId, serverId, toolName));
+        }
+
+        Counter request(String method) {
+            Counter counter = requests.get(method);
+            return counter != null ? counter : requests.get("unknown");
+        }
+
+        Counter throttled(String scope, String reason) {
+            return throttled.get(scope + "|" + reason);
+        }
+
+        Counter authSuccess() {
+            return authSuccess;
+        }
+
+        Counter authFailure() {
+            return authFailure;
+        }
+
+        Counter batchCount() {
+            return batchCount;
+        }
+
+        DistributionSummary batchSize() {
+            return batchSize;
+        }
+
+        Counter toolsListHit() {
+            return toolsListHit;
+        }
+
+        Counter toolsListMiss() {
+            return toolsListMiss;
+        }
+
+        Timer toolsListRebuild() {
+            return toolsListRebuild;
+        }
+
+        Counter streamPauses() {
+            return streamPauses;
+        }
+
+        Timer streamPaused() {
+            return streamPaused;
+        }
+
+        DistributionSummary streamBuffered() {
+            return streamBuffered;
+        }
+
+        private void remove() {
+            tools.values().forEach(ToolMeters::remove);
+            tools.clear();
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    final class ToolMeters {
+        private final Counter invocation;
+        private final Counter validationSuccess;
+        private final Counter validationFailure;
+        private final Counter cachedSuccess;
+        private final Counter cachedFailure;
+        private final Timer durationSuccess;
+        private final Timer durationFailure;
+        private final Counter hedgeFired;
+        private final Counter hedgeWon;
+        private final Counter callCoalesced;
+
+        private ToolMeters(String gatewayId, String serverId, String toolName) {
+            this.invocation = meterRegistry.counter("mcp.tool.invocation.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName);
+            this.validationSuccess = validationCounter("mcp.tool.validation.count", gatewayId, serverId, toolName, true);
+            this.validationFailure = validationCounter("mcp.tool.validation.count", gatewayId, serverId, toolName, false);
+            this.cachedSuccess = validationCounter("mcp.tool.validation.cached.count", gatewayId, serverId, toolName, true);
+            this.cachedFailure = validationCounter("mcp.tool.validation.cached.count", gatewayId, serverId, toolName, false);
+            this.durationSuccess = validationTimer(gatewayId, serverId, toolName, true);
+            this.durationFailure = validationTimer(gatewayId, serverId, toolName, false);
+            this.hedgeFired = meterRegistry.counter("mcp.tool.hedge.fired.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName);
+            this.hedgeWon = meterRegistry.counter("mcp.tool.hedge.won.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName);
+            this.callCoalesced = meterRegistry.counter("mcp.tool.call.coalesced.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName);
+        }
+
+        private Counter validationCounter(String name, String gatewayId, String serverId, String toolName, boolean result) {
+            return meterRegistry.counter(name,
+                    "gatewayId", gatewayId,
+                    "serverId", serverId,
+                    "tool", toolName,
+                    "result", Boolean.toString(result));
+        }
+
+        private Timer validationTimer(String gatewayId, String serverId, String toolName, boolean result) {
+            return meterRegistry.timer("mcp.tool.validation.duration",
+                    "gatewayId", gatewayId,
+                    "serverId", serverId,
+                    "tool", toolName,
+                    "result", Boolean.toString(result));
+        }
+
+        Counter invocation() {
+            return invocation;
+        }
+
+        Counter validation(boolean result) {
+            return result ? validationSuccess : validationFailure;
+        }
+
+        Counter cached(boolean result) {
+            return result ? cachedSuccess : cachedFailure;
+        }
+
+        Timer duration(boolean result) {
+            return result ? durationSuccess : durationFailure;
+        }
+
+        Counter hedgeFired() {
+            return hedgeFired;
+        }
+
+        Counter hedgeWon() {
+            return hedgeWon;
+        }
+
+        Counter callCoalesced() {
+            return callCoalesced;
+        }
+
+        private void remove() {
+            List.of(invocation, validationSuccess, validationFailure, cachedSuccess, cachedFailure,
+                    durationSuccess, durationFailure, hedgeFired, hedgeWon,
+                    callCoalesced).forEach(meterRegistry::remove);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPGateway;
+
+@ApplicationScoped
+public class RateLimiterRegistry {
+
+    static final String SCOPE_GATEWAY = "gateway";
+    static final String SCOPE_CLIENT = "client";
+    static final String SCOPE_TOOL = "tool";
+    static final String REASON_RATE = "rate";
+    static final String REASON_CONCURRENCY = "concurrency";
+
+    private static final Admission UNLIMITED = new Admission(List.of(), null, null, 0);
+
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Limiter> clients = new ConcurrentHashMap<>();
+
+    @ConfigProperty(name = "mcp.rate-limit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.rate-limit.concurrency-retry-after-millis", defaultValue = "100")
+    long concurrencyRetryAfterMillis;
+
+    @ConfigProperty(name = "mcp.rate-limit.max-tracked-clients", defaultValue = "10000")
+    int maxTrackedClients;
+
+    public RateLimiterRegistry() {
+    }
+
+    RateLimiterRegistry(long concurrencyRetryAfterMillis, int maxTrackedClients) {
+        this.enabled = true;
+        this.concurrencyRetryAfterMillis = concurrencyRetryAfterMillis;
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    boolean tracksClients(MCPGateway gateway) {
+        return enabled && gateway != null
+                && (gateway.getClientRateLimitPerSecond() != null || gateway.getClientMaxConcurrentCalls() != null);
+    }
+
+    Admission tryAcquire(MCPGateway gateway, GatewayToolRoute route, String clientId) {
+        if (!enabled || gateway == null) {
+            return UNLIMITED;
+        }
+        long now = System.nanoTime();
+        String gatewayId = gateway.getId();
+        Limiter[] scoped = {
+                limiter(limiters, "g|" + gatewayId, SCOPE_GATEWAY, gateway.getRateLimitPerSecond(),
+                        gateway.getRateLimitBurst(), gateway.getMaxConcurrentCalls(), now),
+                clientId == null ? null : limiter(clients, gatewayId + "|" + clientId, SCOPE_CLIENT,
+                        gateway.getClientRateLimitPerSecond(), gateway.getClientRateLimitBurst(),
+                        gateway.getClientMaxConcurrentCalls(), now),
+                route == null ? null : toolLimiter(gatewayId, route, now)
+        };
+
+        List<Limiter> held = new ArrayList<>(scoped.length);
+        for (Limiter limiter : scoped) {
+            if (limiter == null || limiter.maxConcurrent <= 0) {
+                continue;
+            }
+            if (!limiter.tryEnter()) {
+                held.forEach(Limiter::exit);
+                return new Admission(List.of(), limiter.scope, REASON_CONCURRENCY, concurrencyRetryAfterMillis);
+            }
+            held.add(limiter);
+        }
+        for (int i = 0; i < scoped.length; i++) {
+            Limiter limiter = scoped[i];
+            if (limiter == null) {
+                continue;
+            }
+            long waitNanos = limiter.tryTake(now);
+            if (waitNanos > 0) {
+                for (int j = 0; j < i; j++) {
+                    if (scoped[j] != null) {
+                        scoped[j].refund();
+                    }
+                }
+                held.forEach(Limiter::exit);
+                return new Admission(List.of(), limiter.scope, REASON_RATE,
+                        Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999)));
+            }
+        }
+        return held.isEmpty() ? UNLIMITED : new Admission(held, null, null, 0);
+    }
+
+    public void evictGateway(String gatewayId) {
+        if (gatewayId == null) {
+            return;
+        }
+        limiters.keySet().removeIf(key -> key.equals("g|" + gatewayId) || key.startsWith("t|" + gatewayId + "|"));
+        clients.keySet().removeIf(key -> key.startsWith(gatewayId + "|"));
+    }
+
+    int trackedClients() {
+        return clients.size();
+    }
+
+    private Limiter toolLimiter(String gatewayId, GatewayToolRoute route, long now) {
+        GatewayToolRef ref = route.getRef();
+        return limiter(limiters, "t|" + gatewayId + "|" + route.getServerId() + "|" + route.getToolName(), SCOPE_TOOL,
+                ref.getRateLimitPerSecond(), ref.getRateLimitBurst(), ref.getMaxConcurrentCalls(), now);
+    }
+
+    private Limiter limiter(Map<String, Limiter> map, String key, String scope, Integer ratePerSecond, Integer burst,
+                            Integer maxConcurrent, long now) {
+        int rate = ratePerSecond != null && ratePerSecond > 0 ? ratePerSecond : 0;
+        int concurrency = maxConcurrent != null && maxConcurrent > 0 ? maxConcurrent : 0;
+        if (rate == 0 && concurrency == 0) {
+            return null;
+        }
+        int tolerance = burst != null && burst > 0 ? burst : Math.max(1, rate);
+        Limiter limiter = map.get(key);
+        if (limiter != null && limiter.matches(rate, tolerance, concurrency)) {
+            if (map == clients) {
+                limiter.touch(now);
+            }
+            return limiter;
+        }
+        if (map == clients && limiter == null && clients.size() >= maxTrackedClients) {
+            trimClients(now);
+        }
+        Limiter created = new Limiter(scope, rate, tolerance, concurrency, now);
+        Limiter current = map.merge(key, created,
+                (existing, replacement) -> existing.matches(rate, tolerance, concurrency) ? existing : replacement);
+        return current;
+    }
+
+    private void trimClients(long now) {
+        clients.values().removeIf(candidate -> candidate.isIdle(now));
+        int excess = clients.size() - maxTrackedClients + 1;
+        if (excess <= 0) {
+            return;
+        }
+        int batch = Math.max(excess, maxTrackedClients / 10);
+        clients.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                .limit(batch)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(clients::remove);
+    }
+
+    static final class Admission {
+        private final List<Limiter> held;
+        private final String rejectedScope;
+        private final String reason;
+        private final long retryAfterMillis;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Admission(List<Limiter> held, String rejectedScope, String reason, long retryAfterMillis) {
+            this.held = held;
+            this.rejectedScope = rejectedScope;
+            this.reason = reason;
+            this.retryAfterMillis = retryAfterMillis;
+        }
+
+        boolean isAdmitted() {
+            return rejectedScope == null;
+        }
+
+        boolean holdsPermits() {
+            return !held.isEmpty();
+        }
+
+        String scope() {
+            return rejectedScope;
+        }
+
+        String reason() {
+            return reason;
+        }
+
+        long retryAfterMillis() {
+            return retryAfterMillis;
+        }
+
+        void release() {
+            if (!held.isEmpty() && released.compareAndSet(false, true)) {
+                held.forEach(Limiter::exit);
+            }
+        }
+    }
+
+    static final class Limiter {
+        private final String scope;
+        private final int ratePerSecond;
+        private final int burst;
+        private final int maxConcurrent;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong theoreticalArrival;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile long lastUsed;
+
+        private Limiter(String scope, int ratePerSecond, int burst, int maxConcurrent, long now) {
+            this.scope = scope;
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.maxConcurrent = maxConcurrent;
+            this.intervalNanos = ratePerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / ratePerSecond : 0;
+            this.toleranceNanos = intervalNanos * burst;
+            this.theoreticalArrival = new AtomicLong(now);
+            this.lastUsed = now;
+        }
+
+        private boolean matches(int ratePerSecond, int burst, int maxConcurrent) {
+            return this.ratePerSecond == ratePerSecond && this.burst == burst && this.maxConcurrent == maxConcurrent;
+        }
+
+        private long tryTake(long now) {
+            if (intervalNanos == 0) {
+                return 0;
+            }
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long next = Math.max(arrival, now) + intervalNanos;
+                long excess = next - now - toleranceNanos;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private void refund() {
+            if (intervalNanos > 0) {
+                theoreticalArrival.addAndGet(-intervalNanos);
+            }
+        }
+
+        private boolean tryEnter() {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= maxConcurrent) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void exit() {
+            inFlight.decrementAndGet();
+        }
+
+        private void touch(long now) {
+            lastUsed = now;
+        }
+
+        private boolean isIdle(long now) {
+            return inFlight.get() == 0 && theoreticalArrival.get() <= now && now - lastUsed > toleranceNanos;
+        }
+    }
+}
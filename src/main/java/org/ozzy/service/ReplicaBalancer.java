@@ -0,0 +1,245 @@
+package org.ozzy.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ApplicationScoped
+public class ReplicaBalancer {
+
+    private static final Logger LOG = Logger.getLogger(ReplicaBalancer.class);
+
+    private final Map<String, ReplicaSet> replicaSets = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "mcp.upstream.replica.ejection-failures", defaultValue = "5")
+    int ejectionFailures;
+
+    @ConfigProperty(name = "mcp.upstream.replica.ejection-millis", defaultValue = "30000")
+    long ejectionMillis;
+
+    public ReplicaBalancer() {
+    }
+
+    ReplicaBalancer(MeterRegistry meterRegistry, int ejectionFailures, long ejectionMillis) {
+        this.meterRegistry = meterRegistry;
+        this.ejectionFailures = ejectionFailures;
+        this.ejectionMillis = ejectionMillis;
+    }
+
+    Endpoint select(String serverId, List<BackendTarget> targets, String sessionId) {
+        if (targets == null || targets.isEmpty()) {
+            return null;
+        }
+        Endpoint[] endpoints = replicaSet(serverId, targets).endpoints;
+        if (endpoints.length == 1) {
+            return endpoints[0];
+        }
+        long now = System.currentTimeMillis();
+        List<Endpoint> healthy = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.isEjected(now)) {
+                healthy.add(endpoint);
+            }
+        }
+        if (healthy.isEmpty()) {
+            healthy = List.of(endpoints);
+        }
+        if (sessionId != null && !sessionId.isBlank()) {
+            return affinity(healthy, sessionId);
+        }
+        return leastOutstandingOfTwo(healthy);
+    }
+
+    Endpoint selectAlternate(String serverId, List<BackendTarget> targets, Endpoint exclude) {
+        if (targets == null || targets.isEmpty()) {
+            return null;
+        }
+        Endpoint[] endpoints = replicaSet(serverId, targets).endpoints;
+        long now = System.currentTimeMillis();
+        List<Endpoint> candidates = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint != exclude && !endpoint.isEjected(now)) {
+                candidates.add(endpoint);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return exclude != null ? exclude : endpoints[0];
+        }
+        return leastOutstandingOfTwo(candidates);
+    }
+
+    public void evict(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        ReplicaSet removed = replicaSets.remove(serverId);
+        if (removed != null) {
+            removed.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private ReplicaSet replicaSet(String serverId, List<BackendTarget> targets) {
+        ReplicaSet existing = replicaSets.get(serverId);
+        if (existing != null && existing.matches(targets)) {
+            return existing;
+        }
+        return replicaSets.compute(serverId, (id, current) -> {
+            if (current != null && current.matches(targets)) {
+                return current;
+            }
+            if (current != null) {
+                current.meters.forEach(meterRegistry::remove);
+            }
+            return createReplicaSet(id, targets);
+        });
+    }
+
+    private ReplicaSet createReplicaSet(String serverId, List<BackendTarget> targets) {
+        Endpoint[] endpoints = new Endpoint[targets.size()];
+        List<Meter> meters = new ArrayList<>();
+        for (int i = 0; i < endpoints.length; i++) {
+            Endpoint endpoint = new Endpoint(serverId, targets.get(i), endpoints.length > 1);
+            endpoints[i] = endpoint;
+            if (endpoints.length > 1) {
+                meters.add(Gauge.builder("mcp.upstream.replica.outstanding", endpoint, Endpoint::outstanding)
+                        .tag("serverId", serverId)
+                        .tag("endpoint", endpoint.target.key)
+                        .register(meterRegistry));
+                meters.add(Gauge.builder("mcp.upstream.replica.ejected", endpoint,
+                                e -> e.isEjected(System.currentTimeMillis()) ? 1 : 0)
+                        .tag("serverId", serverId)
+                        .tag("endpoint", endpoint.target.key)
+                        .register(meterRegistry));
+            }
+        }
+        return new ReplicaSet(endpoints, meters);
+    }
+
+    private static Endpoint leastOutstandingOfTwo(List<Endpoint> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Endpoint a = candidates.get(first);
+        Endpoint b = candidates.get(second);
+        return b.outstanding.get() < a.outstanding.get() ? b : a;
+    }
+
+    private static Endpoint affinity(List<Endpoint> candidates, String sessionId) {
+        Endpoint selected = null;
+        long best = Long.MIN_VALUE;
+        for (Endpoint endpoint : candidates) {
+            long score = mix(sessionId.hashCode() * 31L + endpoint.target.key.hashCode());
+            if (selected == null || score > best) {
+                selected = endpoint;
+                best = score;
+            }
+        }
+        return selected;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class ReplicaSet {
+        private final Endpoint[] endpoints;
+        private final List<Meter> meters;
+
+        private ReplicaSet(Endpoint[] endpoints, List<Meter> meters) {
+            this.endpoints = endpoints;
+            this.meters = meters;
+        }
+
+        private boolean matches(List<BackendTarget> targets) {
+            if (targets.size() != endpoints.length) {
+                return false;
+            }
+            for (int i = 0; i < endpoints.length; i++) {
+                BackendTarget current = endpoints[i].target;
+                BackendTarget candidate = targets.get(i);
+                if (current != candidate && (!current.key.equals(candidate.key) || current.ssl != candidate.ssl
+                        || !current.path.equals(candidate.path))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    final class Endpoint {
+        private final String serverId;
+        private final BackendTarget target;
+        private final boolean replicated;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long ejectedUntil;
+
+        private Endpoint(String serverId, BackendTarget target, boolean replicated) {
+            this.serverId = serverId;
+            this.target = target;
+            this.replicated = replicated;
+        }
+
+        BackendTarget target() {
+            return target;
+        }
+
+        void start() {
+            outstanding.incrementAndGet();
+        }
+
+        void finish(boolean success) {
+            outstanding.decrementAndGet();
+            if (success || !replicated) {
+                consecutiveFailures.set(0);
+                return;
+            }
+            if (consecutiveFailures.incrementAndGet() >= ejectionFailures && ejectionFailures > 0) {
+                consecutiveFailures.set(0);
+                ejectedUntil = System.currentTimeMillis() + ejectionMillis;
+                LOG.warnf("Ejecting endpoint %s of server %s for %d ms after repeated failures",
+                        target.key, serverId, ejectionMillis);
+            }
+        }
+
+        void cancel() {
+            outstanding.decrementAndGet();
+        }
+
+        boolean isEjected(long now) {
+            return now < ejectedUntil;
+        }
+
+        double outstanding() {
+            return outstanding.get();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.ozzy.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.ozzy.model.Tool;
+import org.ozzy.util.ToolFingerprintUtil;
+
+final class ServerCatalog {
+
+    private final long fetchedAt;
+    private final Map<String, Tool> tools;
+    private final Map<String, String> fingerprints;
+    private final Map<String, String> alternateFingerprints = new ConcurrentHashMap<>();
+    private final String catalogHash;
+
+    private ServerCatalog(long fetchedAt, Map<String, Tool> tools, Map<String, String> fingerprints) {
+        this.fetchedAt = fetchedAt;
+        this.tools = tools;
+        this.fingerprints = fingerprints;
+        this.catalogHash = fingerprints.isEmpty() ? null : ToolFingerprintUtil.catalogHash(fingerprints);
+    }
+
+    static ServerCatalog of(List<Tool> tools, long fetchedAt) {
+        return of(tools, fetchedAt, ToolFingerprintUtil.VERSION_1);
+    }
+
+    static ServerCatalog of(List<Tool> tools, long fetchedAt, int fingerprintVersion) {
+        if (tools == null || tools.isEmpty()) {
+            return new ServerCatalog(fetchedAt, Map.of(), Map.of());
+        }
+        Map<String, Tool> byName = new HashMap<>();
+        Map<String, String> fingerprints = new HashMap<>();
+        for (Tool tool : tools) {
+            if (tool != null && tool.getName() != null && byName.putIfAbsent(tool.getName(), tool) == null) {
+                fingerprints.put(tool.getName(), ToolFingerprintUtil.fingerprint(tool,
+                        ToolFingerprintUtil.preferredVersion(tool, fingerprintVersion)));
+            }
+        }
+        return new ServerCatalog(fetchedAt, Collections.unmodifiableMap(byName),
+                Collections.unmodifiableMap(fingerprints));
+    }
+
+    boolean isFresh(long now, long maxAgeMillis) {
+        return now - fetchedAt < maxAgeMillis;
+    }
+
+    boolean isEmpty() {
+        return fingerprints.isEmpty();
+    }
+
+    String fingerprint(String toolName, int version) {
+        String fingerprint = fingerprints.get(toolName);
+        if (fingerprint == null || ToolFingerprintUtil.version(fingerprint) == version) {
+            return fingerprint;
+        }
+        return alternateFingerprints.computeIfAbsent(toolName + "|" + version,
+                key -> ToolFingerprintUtil.fingerprint(tools.get(toolName), version));
+    }
+
+    String getCatalogHash() {
+        return catalogHash;
+    }
+
+    long getFetchedAt() {
+        return fetchedAt;
+    }
+}
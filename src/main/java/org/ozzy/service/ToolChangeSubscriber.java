@@ -0,0 +1,447 @@
+package org.ozzy.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.ozzy.model.MCPServer;
+import org.ozzy.util.CertificatePinningUtil;
+import org.ozzy.util.PinnedTrustManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.Startup;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+
+@Startup
+@ApplicationScoped
+public class ToolChangeSubscriber {
+
+    private static final Logger LOG = Logger.getLogger(ToolChangeSubscriber.class);
+    private static final String PROTOCOL_VERSION = "2025-11-25";
+    private static final String LIST_CHANGED = "notifications/tools/list_changed";
+    private static final String SESSION_HEADER = "Mcp-Session-Id";
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final Map<PinnedTrustManager, HttpClient> pinnedClients = new ConcurrentHashMap<>();
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    MCPRegistry registry;
+
+    @Inject
+    ToolValidationService validationService;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "mcp.validation.subscribe.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.validation.subscribe.reconnect-millis", defaultValue = "15000")
+    long reconnectMillis;
+
+    @ConfigProperty(name = "mcp.validation.subscribe.max-retry-millis", defaultValue = "900000")
+    long maxRetryMillis;
+
+    @ConfigProperty(name = "mcp.validation.subscribe.max-event-bytes", defaultValue = "1048576")
+    int maxEventBytes;
+
+    private HttpClient httpClient;
+    private long timerId = -1;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        httpClient = vertx.createHttpClient(clientOptions());
+        Gauge.builder("mcp.upstream.subscription.active", subscriptions,
+                        subs -> subs.values().stream().filter(sub -> sub.active).count())
+                .register(meterRegistry);
+        timerId = vertx.setPeriodic(Math.max(1000, reconnectMillis), id -> reconcile());
+        vertx.runOnContext(ignored -> reconcile());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (timerId >= 0) {
+            vertx.cancelTimer(timerId);
+        }
+        subscriptions.values().forEach(Subscription::close);
+        subscriptions.clear();
+        pinnedClients.values().forEach(HttpClient::close);
+        pinnedClients.clear();
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    private HttpClientOptions clientOptions() {
+        return new HttpClientOptions()
+                .setKeepAlive(true)
+                .setIdleTimeout(0);
+    }
+
+    private HttpClient client(MCPServer server) {
+        PinnedTrustManager pinnedTrust = CertificatePinningUtil.trustManager(server);
+        if (pinnedTrust == null) {
+            return httpClient;
+        }
+        return pinnedClients.computeIfAbsent(pinnedTrust,
+                trust -> vertx.createHttpClient(clientOptions().setTrustOptions(trust.trustOptions())));
+    }
+
+    void reconcile() {
+        long now = System.currentTimeMillis();
+        Map<String, MCPServer> servers = registry.snapshot().getServers();
+        subscriptions.entrySet().removeIf(entry -> {
+            MCPServer current = servers.get(entry.getKey());
+            if (sameEndpoint(entry.getValue().server, current)) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+        for (MCPServer server : servers.values()) {
+            BackendTarget target = BackendTarget.from(server);
+            if (target == null) {
+                continue;
+            }
+            Subscription subscription = subscriptions.computeIfAbsent(server.getId(),
+                    id -> new Subscription(server, target));
+            if (!subscription.active && !subscription.connecting && !subscription.closed
+                    && now >= subscription.retryAt) {
+                subscription.connect();
+            }
+        }
+        pinnedClients.entrySet().removeIf(entry -> {
+            if (subscriptions.values().stream().anyMatch(sub -> sub.client == entry.getValue())) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    boolean sameEndpoint(MCPServer previous, MCPServer current) {
+        if (previous == current) {
+            return true;
+        }
+        BackendTarget before = BackendTarget.from(previous);
+        BackendTarget after = BackendTarget.from(current);
+        if (before == null || after == null) {
+            return false;
+        }
+        return before.path.equals(after.path)
+                && endpointKeys(previous).equals(endpointKeys(current))
+                && Objects.equals(previous.getCertificate(), current.getCertificate())
+                && validationService.buildServerHeaders(previous).equals(validationService.buildServerHeaders(current));
+    }
+
+    private static List<String> endpointKeys(MCPServer server) {
+        return BackendTarget.endpoints(server).stream()
+                .map(target -> (target.ssl ? "https://" : "http://") + target.key)
+                .toList();
+    }
+
+    static long retryDelayMillis(long reconnectMillis, long maxRetryMillis, int attempts) {
+        long base = Math.max(1000, reconnectMillis);
+        long delay = base << Math.min(Math.max(0, attempts - 1), 20);
+        return Math.min(Math.max(base, maxRetryMillis), delay);
+    }
+
+    private RequestOptions requestOptions(Subscription subscription, HttpMethod method) {
+        RequestOptions options = new RequestOptions()
+                .setHost(subscription.target.host)
+                .setPort(subscription.target.port)
+                .setSsl(subscription.target.ssl)
+                .setMethod(method)
+                .setURI(subscription.target.path);
+        validationService.buildServerHeaders(subscription.server).forEach(options::putHeader);
+        options.putHeader("MCP-Protocol-Version", PROTOCOL_VERSION);
+        return options;
+    }
+
+    private Future<String> initializeSession(Subscription subscription) {
+        ObjectNode params = objectMapper.createObjectNode();
+        params.put("protocolVersion", PROTOCOL_VERSION);
+        params.set("capabilities", objectMapper.createObjectNode());
+        ObjectNode clientInfo = params.putObject("clientInfo");
+        clientInfo.put("name", "MCPGateway");
+        clientInfo.put("version", "1.0.0");
+
+        ObjectNode payload = objectMapper.createObjectNode();
+        payload.put("jsonrpc", "2.0");
+        payload.put("id", 1);
+        payload.put("method", "initialize");
+        payload.set("params", params);
+
+        return subscription.client.request(requestOptions(subscription, HttpMethod.POST))
+                .compose(request -> request
+                        .putHeader("Content-Type", "application/json")
+                        .putHeader("Accept", "application/json, text/event-stream")
+                        .send(Buffer.buffer(payload.toString())))
+                .compose(response -> response.body().compose(ignored -> {
+                    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                        return Future.failedFuture("initialize returned " + response.statusCode());
+                    }
+                    return Future.succeededFuture(response.getHeader(SESSION_HEADER));
+                }))
+                .compose(sessionId -> sendInitialized(subscription, sessionId).map(sessionId));
+    }
+
+    private Future<Void> sendInitialized(Subscription subscription, String sessionId) {
+        RequestOptions options = requestOptions(subscription, HttpMethod.POST);
+        if (sessionId != null) {
+            options.putHeader(SESSION_HEADER, sessionId);
+        }
+        return subscription.client.request(options)
+                .compose(request -> request
+                        .putHeader("Content-Type", "application/json")
+                        .putHeader("Accept", "application/json, text/event-stream")
+                        .send(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}")))
+                .compose(HttpClientResponse::body)
+                .mapEmpty();
+    }
+
+    private void onEvent(Subscription subscription, String data) {
+        if (data.isBlank()) {
+            return;
+        }
+        try {
+            JsonNode message = objectMapper.readTree(data);
+            if (!LIST_CHANGED.equals(message.path("method").asText(null))) {
+                return;
+            }
+        } catch (Exception e) {
+            LOG.debugf("Ignoring unparseable event from server %s", subscription.server.getId());
+            return;
+        }
+        meterRegistry.counter("mcp.upstream.tools.list.changed.count", "serverId", subscription.server.getId()).increment();
+        int revalidated = validationService.revalidateServer(subscription.server.getId());
+        LOG.infof("Tool list changed on server %s; revalidating %d tool(s)", subscription.server.getId(), revalidated);
+    }
+
+    final class Subscription {
+        private final MCPServer server;
+        private final BackendTarget target;
+        private final HttpClient client;
+        private final EventBuffer pending = new EventBuffer(maxEventBytes);
+        private final Consumer<String> onData = data -> onEvent(this, data);
+        private volatile boolean active;
+        private volatile boolean connecting;
+        private volatile boolean closed;
+        private volatile long retryAt;
+        private int unsupportedAttempts;
+        private volatile boolean connectedBefore;
+        private volatile HttpClientRequest stream;
+
+        private Subscription(MCPServer server, BackendTarget target) {
+            this.server = server;
+            this.target = target;
+            this.client = client(server);
+        }
+
+        private void connect() {
+            connecting = true;
+            initializeSession(this)
+                    .compose(sessionId -> {
+                        RequestOptions options = requestOptions(this, HttpMethod.GET);
+                        if (sessionId != null) {
+                            options.putHeader(SESSION_HEADER, sessionId);
+                        }
+                        return client.request(options);
+                    })
+                    .compose(request -> {
+                        stream = request;
+                        return request.putHeader("Accept", "text/event-stream").send();
+                    })
+                    .onComplete(result -> {
+                        connecting = false;
+                        if (result.failed()) {
+                            LOG.debugf(result.cause(), "Tool change subscription to server %s failed", server.getId());
+                            return;
+                        }
+                        open(result.result());
+                    });
+        }
+
+        private void open(HttpClientResponse response) {
+            String contentType = response.getHeader("content-type");
+            if (response.statusCode() != 200 || contentType == null
+                    || !contentType.toLowerCase().contains("text/event-stream")) {
+                long delay = retryDelayMillis(reconnectMillis, maxRetryMillis, ++unsupportedAttempts);
+                retryAt = System.currentTimeMillis() + delay;
+                response.body();
+                LOG.infof("Server %s does not offer a notification stream (status %d); polling and retrying in %d ms",
+                        server.getId(), response.statusCode(), delay);
+                return;
+            }
+            unsupportedAttempts = 0;
+            retryAt = 0;
+            if (closed) {
+                response.request().reset();
+                return;
+            }
+            active = true;
+            validationService.markSubscribed(server.getId(), true);
+            if (connectedBefore) {
+                validationService.revalidateServer(server.getId());
+            }
+            connectedBefore = true;
+            LOG.infof("Subscribed to tool list changes on server %s", server.getId());
+
+            response.handler(this::onChunk);
+            response.endHandler(done -> disconnected());
+            response.exceptionHandler(error -> {
+                LOG.debugf(error, "Tool change subscription to server %s dropped", server.getId());
+                disconnected();
+            });
+        }
+
+        private void onChunk(Buffer chunk) {
+            if (pending.append(chunk.getBytes(), onData)) {
+                return;
+            }
+            LOG.warnf("Notification stream of server %s sent an event over %d bytes; reconnecting",
+                    server.getId(), maxEventBytes);
+            HttpClientRequest request = stream;
+            if (request != null) {
+                request.reset();
+            }
+            disconnected();
+        }
+
+        private void disconnected() {
+            if (!active) {
+                return;
+            }
+            active = false;
+            pending.clear();
+            validationService.markSubscribed(server.getId(), false);
+            if (!closed) {
+                validationService.revalidateServer(server.getId());
+            }
+        }
+
+        private void close() {
+            closed = true;
+            HttpClientRequest request = stream;
+            if (request != null) {
+                request.reset();
+            }
+            disconnected();
+        }
+    }
+
+    static final class EventBuffer {
+        private final int maxBytes;
+        private byte[] bytes = new byte[512];
+        private int length;
+        private int eventStart;
+        private int lineStart;
+        private int scanned;
+
+        EventBuffer(int maxBytes) {
+            this.maxBytes = Math.max(1, maxBytes);
+        }
+
+        boolean append(byte[] chunk, Consumer<String> onData) {
+            if (length + chunk.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + chunk.length));
+            }
+            System.arraycopy(chunk, 0, bytes, length, chunk.length);
+            length += chunk.length;
+
+            int i = Math.max(lineStart, scanned);
+            while (i < length) {
+                byte b = bytes[i];
+                if (b != '\n' && b != '\r') {
+                    i++;
+                    continue;
+                }
+                int next = i + 1;
+                if (b == '\r') {
+                    if (next == length) {
+                        break;
+                    }
+                    if (bytes[next] == '\n') {
+                        next++;
+                    }
+                }
+                if (i == lineStart) {
+                    String data = i > eventStart ? data(eventStart, i) : "";
+                    if (!data.isEmpty()) {
+                        onData.accept(data);
+                    }
+                    eventStart = next;
+                }
+                lineStart = next;
+                i = next;
+            }
+            scanned = i;
+
+            if (eventStart > 0) {
+                System.arraycopy(bytes, eventStart, bytes, 0, length - eventStart);
+                length -= eventStart;
+                lineStart -= eventStart;
+                scanned -= eventStart;
+                eventStart = 0;
+            }
+            if (length > maxBytes) {
+                clear();
+                return false;
+            }
+            return true;
+        }
+
+        void clear() {
+            length = 0;
+            eventStart = 0;
+            lineStart = 0;
+            scanned = 0;
+            if (bytes.length > 512) {
+                bytes = new byte[512];
+            }
+        }
+
+        private String data(int from, int to) {
+            StringBuilder data = new StringBuilder();
+            for (String line : new String(bytes, from, to - from, StandardCharsets.UTF_8).split("\\r?\\n|\\r")) {
+                if (line.startsWith("data:")) {
+                    data.append(line.substring(5).trim());
+                }
+            }
+            return data.toString();
+        }
+    }
+}
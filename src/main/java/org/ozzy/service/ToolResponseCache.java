@@ -0,0 +1,293 @@
+package org.ozzy.service;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.util.BufferInputStream;
+import org.ozzy.util.ToolFingerprintUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.buffer.Buffer;
+
+@ApplicationScoped
+public class ToolResponseCache {
+
+    private static final Logger LOG = Logger.getLogger(ToolResponseCache.class);
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int FRAMING_SLACK_BYTES = 4096;
+
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @ConfigProperty(name = "mcp.tool-cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "mcp.tool-cache.default-max-entry-bytes", defaultValue = "65536")
+    int defaultMaxEntryBytes;
+
+    @ConfigProperty(name = "mcp.tool-cache.default-max-bytes", defaultValue = "4194304")
+    long defaultMaxBytes;
+
+    public ToolResponseCache() {
+    }
+
+    ToolResponseCache(MeterRegistry meterRegistry, ObjectMapper objectMapper, int defaultMaxEntryBytes,
+                      long defaultMaxBytes) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = true;
+        this.defaultMaxEntryBytes = defaultMaxEntryBytes;
+        this.defaultMaxBytes = defaultMaxBytes;
+    }
+
+    boolean isCacheable(GatewayToolRoute route) {
+        return enabled && route.isCacheable();
+    }
+
+    Key key(String gatewayId, GatewayToolRoute route, String argumentsHash) {
+        if (!isCacheable(route) || argumentsHash == null) {
+            return null;
+        }
+        Segment segment = segment(gatewayId, route);
+        String fingerprint = ToolFingerprintUtil.storedFingerprint(route.getStoredTool());
+        return new Key(segment, fingerprint, fingerprint + "|" + argumentsHash);
+    }
+
+    byte[] get(Key key) {
+        byte[] result = key.segment.get(key, System.currentTimeMillis());
+        (result != null ? key.segment.hits : key.segment.misses).increment();
+        return result;
+    }
+
+    boolean put(Key key, Buffer message) {
+        if (message == null || message.length() > key.maxCapturedBytes()) {
+            return false;
+        }
+        JsonNode result;
+        try {
+            JsonNode response = objectMapper.readTree(new BufferInputStream(message));
+            if (response == null || response.has("error") || !response.has("result")) {
+                return false;
+            }
+            result = response.get("result");
+            if (result.path("isError").asBoolean(false)) {
+                return false;
+            }
+        } catch (IOException e) {
+            LOG.debugf("Not caching unparseable response for %s", key.segment.toolName);
+            return false;
+        }
+        byte[] encoded;
+        try {
+            encoded = objectMapper.writeValueAsBytes(result);
+        } catch (IOException e) {
+            return false;
+        }
+        if (encoded.length > key.segment.maxEntryBytes) {
+            return false;
+        }
+        key.segment.put(key, encoded, System.currentTimeMillis());
+        return true;
+    }
+
+    void sync(MCPRegistrySnapshot snapshot) {
+        Set<String> live = new HashSet<>();
+        for (String gatewayId : snapshot.getGateways().keySet()) {
+            for (GatewayToolRoute route : snapshot.getRoutingTable(gatewayId).getRoutes()) {
+                if (route.isCacheable()) {
+                    live.add(segmentKey(gatewayId, route));
+                }
+            }
+        }
+        segments.entrySet().removeIf(entry -> {
+            if (live.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    private Segment segment(String gatewayId, GatewayToolRoute route) {
+        String key = segmentKey(gatewayId, route);
+        Segment segment = segments.get(key);
+        if (segment == null) {
+            segment = segments.computeIfAbsent(key,
+                    ignored -> new Segment(gatewayId, String.valueOf(route.getServerId()), route.getToolName()));
+        }
+        segment.configure(route.getRef());
+        return segment;
+    }
+
+    private static String segmentKey(String gatewayId, GatewayToolRoute route) {
+        return gatewayId + "|" + route.getServerId() + "|" + route.getToolName();
+    }
+
+    static final class Key {
+        private final Segment segment;
+        private final String fingerprint;
+        private final String value;
+
+        private Key(Segment segment, String fingerprint, String value) {
+            this.segment = segment;
+            this.fingerprint = fingerprint;
+            this.value = value;
+        }
+
+        int maxCapturedBytes() {
+            return segment.maxEntryBytes + FRAMING_SLACK_BYTES;
+        }
+    }
+
+    private final class Segment {
+        private final String toolName;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter evictedSize;
+        private final Counter evictedExpired;
+        private final Counter evictedInvalidated;
+        private final List<Meter> meters;
+        private volatile long ttlMillis;
+        private volatile int maxEntryBytes;
+        private volatile long maxBytes;
+        private String fingerprint;
+        private long bytes;
+
+        private Segment(String gatewayId, String serverId, String toolName) {
+            this.toolName = toolName;
+            this.hits = meterRegistry.counter("mcp.tool.cache.request.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName, "result", "hit");
+            this.misses = meterRegistry.counter("mcp.tool.cache.request.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName, "result", "miss");
+            this.evictedSize = eviction(gatewayId, serverId, toolName, "size");
+            this.evictedExpired = eviction(gatewayId, serverId, toolName, "expired");
+            this.evictedInvalidated = eviction(gatewayId, serverId, toolName, "invalidated");
+            Gauge bytesHeld = Gauge.builder("mcp.tool.cache.bytes", this, Segment::bytes)
+                    .tag("gatewayId", gatewayId)
+                    .tag("serverId", serverId)
+                    .tag("tool", toolName)
+                    .register(meterRegistry);
+            Gauge hitRatio = Gauge.builder("mcp.tool.cache.hit.ratio", this, Segment::hitRatio)
+                    .tag("gatewayId", gatewayId)
+                    .tag("serverId", serverId)
+                    .tag("tool", toolName)
+                    .register(meterRegistry);
+            this.meters = List.of(hits, misses, evictedSize, evictedExpired, evictedInvalidated, bytesHeld, hitRatio);
+        }
+
+        private Counter eviction(String gatewayId, String serverId, String toolName, String reason) {
+            return meterRegistry.counter("mcp.tool.cache.eviction.count",
+                    "gatewayId", gatewayId, "serverId", serverId, "tool", toolName, "reason", reason);
+        }
+
+        private void configure(GatewayToolRef ref) {
+            ttlMillis = ref.getCacheTtlSeconds() * 1000;
+            maxEntryBytes = ref.getCacheMaxEntryBytes() != null && ref.getCacheMaxEntryBytes() > 0
+                    ? ref.getCacheMaxEntryBytes() : defaultMaxEntryBytes;
+            maxBytes = ref.getCacheMaxBytes() != null && ref.getCacheMaxBytes() > 0
+                    ? ref.getCacheMaxBytes() : defaultMaxBytes;
+        }
+
+        private synchronized byte[] get(Key key, long now) {
+            invalidateIfChanged(key.fingerprint);
+            Entry entry = entries.get(key.value);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiresAt) {
+                remove(key.value, entry);
+                evictedExpired.increment();
+                return null;
+            }
+            return entry.result;
+        }
+
+        private synchronized void put(Key key, byte[] result, long now) {
+            invalidateIfChanged(key.fingerprint);
+            Entry previous = entries.remove(key.value);
+            if (previous != null) {
+                bytes -= previous.size;
+            }
+            Entry entry = new Entry(result, now + ttlMillis, result.length + key.value.length() + ENTRY_OVERHEAD_BYTES);
+            entries.put(key.value, entry);
+            bytes += entry.size;
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> candidate = eldest.next();
+                eldest.remove();
+                bytes -= candidate.getValue().size;
+                (now >= candidate.getValue().expiresAt ? evictedExpired : evictedSize).increment();
+            }
+        }
+
+        private void invalidateIfChanged(String current) {
+            if (current.equals(fingerprint)) {
+                return;
+            }
+            if (!entries.isEmpty()) {
+                LOG.infof("Invalidating %d cached responses for %s after fingerprint change", entries.size(), toolName);
+                evictedInvalidated.increment(entries.size());
+                entries.clear();
+                bytes = 0;
+            }
+            fingerprint = current;
+        }
+
+        private void remove(String key, Entry entry) {
+            entries.remove(key);
+            bytes -= entry.size;
+        }
+
+        private synchronized double bytes() {
+            return bytes;
+        }
+
+        private double hitRatio() {
+            double hit = hits.count();
+            double total = hit + misses.count();
+            return total == 0 ? 0 : hit / total;
+        }
+
+        private synchronized void close() {
+            entries.clear();
+            bytes = 0;
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] result;
+        private final long expiresAt;
+        private final long size;
+
+        private Entry(byte[] result, long expiresAt, long size) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+            this.size = size;
+        }
+    }
+}
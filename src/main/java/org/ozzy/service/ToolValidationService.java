@@ -1,13 +1,28 @@
 package org.ozzy.service;
 
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 import org.ozzy.model.GatewayToolRef;
 import org.ozzy.model.MCPServer;
@@ -17,7 +32,6 @@ import org.ozzy.util.ToolFingerprintUtil;
 import org.ozzy.util.ToolUtil;
 
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
 
 @ApplicationScoped
 public class ToolValidationService {
@@ -26,56 +40,281 @@ public class ToolValidationService {
     private static final String VALIDATION_PER_INVOCATION = "PER_INVOCATION";
     private static final String VALIDATION_PER_TIME_PERIOD = "PER_TIME_PERIOD";
     private static final long DEFAULT_VALIDATION_PERIOD_SECONDS = 300;
+    private static final long MAX_REFRESH_LEAD_MILLIS = 30_000;
 
     private final Map<String, ValidationState> validationStates = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Boolean>> inFlightValidations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ServerCatalog>> inFlightFetches = new ConcurrentHashMap<>();
+    private final Map<String, ServerCatalog> catalogs = new ConcurrentHashMap<>();
+    private final Set<String> subscribedServers = ConcurrentHashMap.newKeySet();
+    private final ToolUtil toolUtil = new ToolUtil();
 
     @Inject
-    MeterRegistry meterRegistry;
+    ProxyMetrics metrics;
 
-    public boolean validateToolFingerprint(String gatewayId, GatewayToolRef ref, MCPServer server, String toolName) {
-        if (!validatePinnedCertificate(server)) {
-            meterRegistry.counter("mcp.tool.validation.count",
-                    "gatewayId", gatewayId,
-                    "serverId", String.valueOf(ref.getServerId()),
-                    "tool", toolName,
-                    "result", Boolean.toString(false)).increment();
-            return false;
+    @Inject
+    ValidationExecutor validationExecutor;
+
+    @ConfigProperty(name = "mcp.validation.catalog-max-age-millis", defaultValue = "5000")
+    long catalogMaxAgeMillis;
+
+    @ConfigProperty(name = "mcp.validation.fingerprint-version", defaultValue = "1")
+    int fingerprintVersion = ToolFingerprintUtil.VERSION_1;
+
+    @ConfigProperty(name = "mcp.validation.subscribe.trust-millis", defaultValue = "3600000")
+    long subscribedTrustMillis;
+
+    @ConfigProperty(name = "mcp.validation.refresh-ahead.enabled", defaultValue = "true")
+    boolean refreshAheadEnabled;
+
+    @ConfigProperty(name = "mcp.validation.refresh-ahead.interval-millis", defaultValue = "1000")
+    long refreshIntervalMillis;
+
+    @ConfigProperty(name = "mcp.validation.refresh-ahead.max-concurrent", defaultValue = "4")
+    int refreshMaxConcurrent = 4;
+
+    private volatile Semaphore refreshPermits;
+    private ScheduledExecutorService refreshScheduler;
+
+    @PostConstruct
+    void init() {
+        if (!refreshAheadEnabled) {
+            return;
+        }
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mcp-validation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(100, refreshIntervalMillis);
+        refreshScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refreshDue(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                LOG.warn("Refresh-ahead validation pass failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
         }
-        ValidationPolicy policy = resolveValidationPolicy(ref);
+    }
+
+    public boolean validateToolFingerprint(String gatewayId, GatewayToolRef ref, MCPServer server, String toolName) {
+        return validateToolFingerprint(gatewayId, ref, server, toolName,
+                resolveValidationPolicy(ref), resolveStoredTool(server, toolName));
+    }
+
+    boolean validateToolFingerprint(String gatewayId, GatewayToolRoute route) {
+        return validateToolFingerprint(gatewayId, route.getRef(), route.getServer(), route.getToolName(),
+                route.getPolicy(), route.getStoredTool());
+    }
+
+    CompletableFuture<Boolean> validateToolFingerprintAsync(String gatewayId, GatewayToolRoute route) {
+        return validation(gatewayId, route.getRef(), route.getServer(), route.getToolName(), route.getPolicy(),
+                route.getStoredTool(), true);
+    }
+
+    private boolean validateToolFingerprint(String gatewayId, GatewayToolRef ref, MCPServer server, String toolName,
+                                            ValidationPolicy policy, Tool stored) {
+        return await(validation(gatewayId, ref, server, toolName, policy, stored, false));
+    }
+
+    private CompletableFuture<Boolean> validation(String gatewayId, GatewayToolRef ref, MCPServer server,
+                                                  String toolName, ValidationPolicy policy, Tool stored,
+                                                  boolean onExecutor) {
+        ProxyMetrics.ToolMeters meters = metrics.tool(gatewayId, String.valueOf(ref.getServerId()), toolName);
         String key = buildValidationKey(gatewayId, ref);
-        ValidationState state = validationStates.get(key);
         long now = System.currentTimeMillis();
 
         if (!VALIDATION_PER_INVOCATION.equals(policy.mode)) {
-            if (state != null && (now - state.lastValidatedAt) < policy.periodMillis) {
-                meterRegistry.counter("mcp.tool.validation.cached.count",
-                        "gatewayId", gatewayId,
-                        "serverId", String.valueOf(ref.getServerId()),
-                        "tool", toolName,
-                        "result", Boolean.toString(state.lastSuccess)).increment();
-                return state.lastSuccess;
+            ValidationState state = validationStates.get(key);
+            if (state != null && (now - state.lastValidatedAt) < effectivePeriodMillis(server, policy)) {
+                state.accessed = true;
+                meters.cached(state.lastSuccess).increment();
+                return CompletableFuture.completedFuture(state.lastSuccess);
+            }
+        }
+
+        ValidationTarget target = new ValidationTarget(server, toolName, stored, policy, meters);
+        if (onExecutor) {
+            return validateOnExecutor(key, target);
+        }
+        return singleFlight(inFlightValidations, key, "validation", () -> validate(key, target));
+    }
+
+    private CompletableFuture<Boolean> validateOnExecutor(String key, ValidationTarget target) {
+        return singleFlight(inFlightValidations, key, "validation",
+                () -> submitRefresh(() -> validate(key, target)).thenCompose(Function.identity()));
+    }
+
+    private CompletableFuture<Boolean> validate(String key, ValidationTarget target) {
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> check = validatePinnedCertificate(target.server)
+                ? validateToolFingerprintAsync(target.server, target.toolName, target.stored,
+                        !VALIDATION_PER_INVOCATION.equals(target.policy.mode))
+                : CompletableFuture.completedFuture(false);
+        return check.thenApply(valid -> {
+            target.meters.duration(valid).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            target.meters.validation(valid).increment();
+
+            if (!VALIDATION_PER_INVOCATION.equals(target.policy.mode)) {
+                long validatedAt = System.currentTimeMillis();
+                validationStates.put(key, new ValidationState(validatedAt, valid, target,
+                        refreshAt(validatedAt, effectivePeriodMillis(target.server, target.policy))));
+            }
+            return valid;
+        });
+    }
+
+    int refreshDue(long now) {
+        Semaphore permits = refreshPermits();
+        int started = 0;
+        for (Map.Entry<String, ValidationState> entry : validationStates.entrySet()) {
+            ValidationState state = entry.getValue();
+            if (state.target == null || now < state.refreshAt || !state.accessed) {
+                continue;
+            }
+            if (!state.refreshing.compareAndSet(false, true)) {
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                state.refreshing.set(false);
+                metrics.refresh("deferred").increment();
+                break;
+            }
+            started++;
+            String key = entry.getKey();
+            validateOnExecutor(key, state.target).whenComplete((valid, error) -> {
+                permits.release();
+                if (error != null) {
+                    state.refreshing.set(false);
+                    LOG.warnf(error, "Refresh-ahead validation failed for %s", state.target.toolName);
+                    metrics.refresh("error").increment();
+                    return;
+                }
+                metrics.refresh(Boolean.toString(valid)).increment();
+            });
+        }
+        return started;
+    }
+
+    private long effectivePeriodMillis(MCPServer server, ValidationPolicy policy) {
+        if (server != null && server.getId() != null && subscribedServers.contains(server.getId())) {
+            return Math.max(policy.periodMillis, subscribedTrustMillis);
+        }
+        return policy.periodMillis;
+    }
+
+    void markSubscribed(String serverId, boolean subscribed) {
+        if (serverId == null) {
+            return;
+        }
+        if (subscribed) {
+            subscribedServers.add(serverId);
+        } else {
+            subscribedServers.remove(serverId);
+        }
+    }
+
+    int revalidateServer(String serverId) {
+        if (serverId == null) {
+            return 0;
+        }
+        catalogs.remove(serverId);
+        int started = 0;
+        for (Map.Entry<String, ValidationState> entry : validationStates.entrySet()) {
+            ValidationState state = entry.getValue();
+            if (state.target == null || state.target.server == null || !serverId.equals(state.target.server.getId())) {
+                continue;
+            }
+            started++;
+            String key = entry.getKey();
+            validateOnExecutor(key, state.target).whenComplete((valid, error) -> {
+                if (error != null) {
+                    LOG.warnf(error, "Revalidation of %s after tool list change failed", state.target.toolName);
+                    validationStates.remove(key, state);
+                    metrics.refresh("error").increment();
+                    return;
+                }
+                metrics.refresh(Boolean.toString(valid)).increment();
+            });
+        }
+        return started;
+    }
+
+    private Semaphore refreshPermits() {
+        Semaphore permits = refreshPermits;
+        if (permits == null) {
+            synchronized (this) {
+                if (refreshPermits == null) {
+                    refreshPermits = new Semaphore(Math.max(1, refreshMaxConcurrent));
+                }
+                permits = refreshPermits;
             }
         }
+        return permits;
+    }
 
-        Timer.Sample sample = Timer.start(meterRegistry);
-        boolean valid = validateToolFingerprintNow(server, toolName);
-        sample.stop(meterRegistry.timer("mcp.tool.validation.duration",
-                "gatewayId", gatewayId,
-                "serverId", String.valueOf(ref.getServerId()),
-                "tool", toolName,
-                "result", Boolean.toString(valid)));
+    private <T> CompletableFuture<T> submitRefresh(Supplier<T> task) {
+        if (validationExecutor != null) {
+            return validationExecutor.submit(task);
+        }
+        try {
+            return CompletableFuture.completedFuture(task.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static long refreshAt(long validatedAt, long periodMillis) {
+        long lead = Math.min(periodMillis / 10, MAX_REFRESH_LEAD_MILLIS);
+        long jitter = lead > 0 ? ThreadLocalRandom.current().nextLong(lead) : 0;
+        return validatedAt + Math.max(periodMillis / 2, periodMillis - lead - jitter);
+    }
 
-        meterRegistry.counter("mcp.tool.validation.count",
-                "gatewayId", gatewayId,
-                "serverId", String.valueOf(ref.getServerId()),
-                "tool", toolName,
-                "result", Boolean.toString(valid)).increment();
+    private <T> CompletableFuture<T> singleFlight(Map<String, CompletableFuture<T>> inFlight, String key,
+                                                  String stage, Supplier<CompletableFuture<T>> work) {
+        CompletableFuture<T> owned = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, owned);
+        if (existing != null) {
+            metrics.coalesced(stage).increment();
+            return existing;
+        }
+        CompletableFuture<T> started;
+        try {
+            started = work.get();
+        } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((result, error) -> {
+            inFlight.remove(key, owned);
+            if (error != null) {
+                owned.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error);
+            } else {
+                owned.complete(result);
+            }
+        });
+        return owned;
+    }
 
-        validationStates.put(key, new ValidationState(now, valid));
-        return valid;
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
-    ValidationPolicy resolveValidationPolicy(GatewayToolRef ref) {
+    static ValidationPolicy resolveValidationPolicy(GatewayToolRef ref) {
         String mode = normalizeValidationMode(ref == null ? null : ref.getValidationMode());
         long periodSeconds = ref != null && ref.getValidationPeriodSeconds() != null
                 ? ref.getValidationPeriodSeconds()
@@ -93,29 +332,41 @@ public class ToolValidationService {
     }
 
     boolean validateToolFingerprintNow(MCPServer server, String toolName) {
-        Tool stored = resolveStoredTool(server, toolName);
+        return validateToolFingerprintNow(server, toolName, resolveStoredTool(server, toolName));
+    }
+
+    boolean validateToolFingerprintNow(MCPServer server, String toolName, Tool stored) {
+        return await(validateToolFingerprintAsync(server, toolName, stored, true));
+    }
+
+    private CompletableFuture<Boolean> validateToolFingerprintAsync(MCPServer server, String toolName, Tool stored,
+                                                                    boolean allowCachedCatalog) {
         if (stored == null) {
             LOG.warnf("No stored tool definition found for %s", toolName);
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
+        return liveCatalogAsync(server, allowCachedCatalog).thenApply(catalog -> matchesCatalog(server, toolName, stored, catalog));
+    }
 
-        List<Tool> currentTools = fetchRemoteTools(server);
-        if (currentTools == null || currentTools.isEmpty()) {
+    private boolean matchesCatalog(MCPServer server, String toolName, Tool stored, ServerCatalog catalog) {
+        if (catalog.isEmpty()) {
             LOG.warnf("No tools returned during validation for %s", toolName);
             return false;
         }
 
-        Tool current = currentTools.stream()
-                .filter(tool -> tool != null && toolName.equals(tool.getName()))
-                .findFirst()
-                .orElse(null);
-        if (current == null) {
+        if (server.getToolCatalogHash() != null && server.getToolCatalogHash().equals(catalog.getCatalogHash())) {
+            metrics.catalogHash(true).increment();
+            return true;
+        }
+        metrics.catalogHash(false).increment();
+
+        String storedFingerprint = ToolFingerprintUtil.storedFingerprint(stored);
+        String currentFingerprint = catalog.fingerprint(toolName, ToolFingerprintUtil.version(storedFingerprint));
+        if (currentFingerprint == null) {
             LOG.warnf("Current tool definition missing for %s", toolName);
             return false;
         }
 
-        String storedFingerprint = ToolFingerprintUtil.fingerprint(stored);
-        String currentFingerprint = ToolFingerprintUtil.fingerprint(current);
         boolean match = storedFingerprint.equals(currentFingerprint);
         if (!match) {
             LOG.warnf("Fingerprint validation failed for tool %s", toolName);
@@ -123,6 +374,64 @@ public class ToolValidationService {
         return match;
     }
 
+    private CompletableFuture<ServerCatalog> liveCatalogAsync(MCPServer server, boolean allowCached) {
+        String key = server.getId() != null ? server.getId() : String.valueOf(buildServerUrl(server));
+        ServerCatalog cached = allowCached ? catalogs.get(key) : null;
+        if (cached != null && cached.isFresh(System.currentTimeMillis(), catalogMaxAgeMillis)) {
+            metrics.catalog(true).increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        metrics.catalog(false).increment();
+        return singleFlight(inFlightFetches, key, "fetch", () -> {
+            ServerCatalog fetched = ServerCatalog.of(fetchRemoteTools(server), System.currentTimeMillis(),
+                    fingerprintVersion);
+            fetched = checkReplicas(server, fetched);
+            catalogs.put(key, fetched);
+            return CompletableFuture.completedFuture(fetched);
+        });
+    }
+
+    private ServerCatalog checkReplicas(MCPServer server, ServerCatalog primary) {
+        List<BackendTarget> endpoints = BackendTarget.endpoints(server);
+        if (endpoints.size() < 2 || primary.isEmpty()) {
+            return primary;
+        }
+        for (BackendTarget replica : endpoints.subList(1, endpoints.size())) {
+            ServerCatalog replicaCatalog = ServerCatalog.of(fetchRemoteTools(server, replica),
+                    primary.getFetchedAt(), fingerprintVersion);
+            if (!java.util.Objects.equals(primary.getCatalogHash(), replicaCatalog.getCatalogHash())) {
+                LOG.warnf("Replica %s of server %s serves a different tool catalog", replica.key, server.getId());
+                return ServerCatalog.of(null, primary.getFetchedAt());
+            }
+        }
+        return primary;
+    }
+
+    public void evictServer(String serverId) {
+        if (serverId == null) {
+            return;
+        }
+        catalogs.remove(serverId);
+        validationStates.values().removeIf(state -> state.target != null && state.target.server != null
+                && serverId.equals(state.target.server.getId()));
+    }
+
+    void sync(MCPRegistrySnapshot snapshot) {
+        Set<String> live = new HashSet<>();
+        for (String gatewayId : snapshot.getGateways().keySet()) {
+            for (GatewayToolRoute route : snapshot.getRoutingTable(gatewayId).getRoutes()) {
+                if (!VALIDATION_PER_INVOCATION.equals(route.getPolicy().mode)) {
+                    live.add(buildValidationKey(gatewayId, route.getRef()));
+                }
+            }
+        }
+        validationStates.keySet().retainAll(live);
+    }
+
+    int trackedValidations() {
+        return validationStates.size();
+    }
+
     Tool resolveStoredTool(MCPServer server, String toolName) {
         if (server == null || server.getTools() == null || toolName == null) {
             return null;
@@ -138,15 +447,20 @@ public class ToolValidationService {
         if (url == null) {
             return null;
         }
-        ToolUtil toolUtil = new ToolUtil();
-        return toolUtil.getTools(url, buildServerHeaders(server));
+        return toolUtil.getTools(url, buildServerHeaders(server), CertificatePinningUtil.trustManager(server));
+    }
+
+    protected List<Tool> fetchRemoteTools(MCPServer server, BackendTarget endpoint) {
+        String host = endpoint.host.indexOf(':') >= 0 ? "[" + endpoint.host + "]" : endpoint.host;
+        String url = (endpoint.ssl ? "https" : "http") + "://" + host + ":" + endpoint.port + endpoint.path;
+        return toolUtil.getTools(url, buildServerHeaders(server), CertificatePinningUtil.trustManager(server));
     }
 
     protected boolean validatePinnedCertificate(MCPServer server) {
         return CertificatePinningUtil.validatePinnedCertificate(server);
     }
 
-    private java.util.Map<String, String> buildServerHeaders(MCPServer server) {
+    java.util.Map<String, String> buildServerHeaders(MCPServer server) {
         java.util.Map<String, String> headers = new java.util.HashMap<>();
         if (server == null) {
             return headers;
@@ -202,10 +516,10 @@ public class ToolValidationService {
     }
 
     void setMeterRegistry(MeterRegistry meterRegistry) {
-        this.meterRegistry = meterRegistry;
+        this.metrics = new ProxyMetrics(meterRegistry);
     }
 
-    private String normalizeValidationMode(String mode) {
+    private static String normalizeValidationMode(String mode) {
         if (mode == null || mode.isBlank()) {
             return VALIDATION_PER_INVOCATION;
         }
@@ -221,10 +535,33 @@ public class ToolValidationService {
     static final class ValidationState {
         private final long lastValidatedAt;
         private final boolean lastSuccess;
+        private final ValidationTarget target;
+        private final long refreshAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile boolean accessed;
 
-        private ValidationState(long lastValidatedAt, boolean lastSuccess) {
+        private ValidationState(long lastValidatedAt, boolean lastSuccess, ValidationTarget target, long refreshAt) {
             this.lastValidatedAt = lastValidatedAt;
             this.lastSuccess = lastSuccess;
+            this.target = target;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    static final class ValidationTarget {
+        private final MCPServer server;
+        private final String toolName;
+        private final Tool stored;
+        private final ValidationPolicy policy;
+        private final ProxyMetrics.ToolMeters meters;
+
+        private ValidationTarget(MCPServer server, String toolName, Tool stored, ValidationPolicy policy,
+                                 ProxyMetrics.ToolMeters meters) {
+            this.server = server;
+            this.toolName = toolName;
+            this.stored = stored;
+            this.policy = policy;
+            this.meters = meters;
         }
     }
 
@@ -28,24 +28,34 @@ public class BasicGatewayAuthenticator implements GatewayAuthenticator {
             return false;
         }
 
+        String decoded = decodeCredentials(request);
+        if (decoded == null) {
+            return false;
+        }
+        int delimiter = decoded.indexOf(':');
+        String user = decoded.substring(0, delimiter);
+        String password = decoded.substring(delimiter + 1);
+        return expectedUser.equals(user) && expectedPassword.equals(password);
+    }
+
+    @Override
+    public String clientIdentity(MCPGateway gateway, HttpServerRequest request) {
+        String decoded = request == null ? null : decodeCredentials(request);
+        return decoded == null ? null : "basic:" + decoded.substring(0, decoded.indexOf(':'));
+    }
+
+    private static String decodeCredentials(HttpServerRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Basic ")) {
-            return false;
+            return null;
         }
 
         String token = authHeader.substring("Basic ".length()).trim();
         if (token.isBlank()) {
-            return false;
+            return null;
         }
 
         String decoded = new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8);
-        int delimiter = decoded.indexOf(':');
-        if (delimiter < 0) {
-            return false;
-        }
-
-        String user = decoded.substring(0, delimiter);
-        String password = decoded.substring(delimiter + 1);
-        return expectedUser.equals(user) && expectedPassword.equals(password);
+        return decoded.indexOf(':') < 0 ? null : decoded;
     }
 }
@@ -1,14 +1,30 @@
 package org.ozzy.service.auth;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import org.ozzy.model.MCPGateway;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.vertx.core.http.HttpServerRequest;
 
 @ApplicationScoped
 public class BearerGatewayAuthenticator implements GatewayAuthenticator {
 
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    public BearerGatewayAuthenticator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
     @Override
     public boolean supports(MCPGateway gateway) {
         return gateway != null && "BEARER".equalsIgnoreCase(gateway.getAuthType());
@@ -24,12 +40,52 @@ public class BearerGatewayAuthenticator implements GatewayAuthenticator {
             return false;
         }
 
+        String token = bearerToken(request);
+        return token != null && expectedToken.equals(token);
+    }
+
+    @Override
+    public String clientIdentity(MCPGateway gateway, HttpServerRequest request) {
+        String token = request == null ? null : bearerToken(request);
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String subject = jwtSubject(token);
+        return subject != null ? "bearer:" + subject : "token:" + tokenHash(token);
+    }
+
+    private static String bearerToken(HttpServerRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return false;
+            return null;
         }
+        return authHeader.substring("Bearer ".length()).trim();
+    }
 
-        String token = authHeader.substring("Bearer ".length()).trim();
-        return expectedToken.equals(token);
+    private String jwtSubject(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode subject = claims == null ? null : claims.get("sub");
+            return subject != null && subject.isTextual() && !subject.textValue().isBlank() ? subject.textValue() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String tokenHash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
@@ -34,4 +34,22 @@ public class GatewayAuthService {
         LOG.warnf("No authenticator available for gateway auth type %s", authType);
         return false;
     }
+
+    public String clientIdentity(MCPGateway gateway, HttpServerRequest request) {
+        if (gateway != null && request != null) {
+            for (GatewayAuthenticator authenticator : authenticators) {
+                if (authenticator.supports(gateway)) {
+                    String identity = authenticator.clientIdentity(gateway, request);
+                    if (identity != null) {
+                        return identity;
+                    }
+                    break;
+                }
+            }
+        }
+        if (request == null || request.remoteAddress() == null) {
+            return null;
+        }
+        return "address:" + request.remoteAddress().host();
+    }
 }
@@ -9,4 +9,8 @@ public interface GatewayAuthenticator {
     boolean supports(MCPGateway gateway);
 
     boolean authenticate(MCPGateway gateway, HttpServerRequest request);
+
+    default String clientIdentity(MCPGateway gateway, HttpServerRequest request) {
+        return null;
+    }
 }
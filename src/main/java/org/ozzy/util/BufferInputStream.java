@@ -0,0 +1,66 @@
+package org.ozzy.util;
+
+import java.io.InputStream;
+
+import io.vertx.core.buffer.Buffer;
+
+public final class BufferInputStream extends InputStream {
+
+    private final Buffer buffer;
+    private int position;
+    private int mark;
+
+    public BufferInputStream(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+        if (position >= buffer.length()) {
+            return -1;
+        }
+        return buffer.getByte(position++) & 0xff;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int remaining = buffer.length() - position;
+        if (remaining <= 0) {
+            return -1;
+        }
+        int count = Math.min(length, remaining);
+        buffer.getBytes(position, position + count, target, offset);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long count) {
+        int skipped = (int) Math.max(0, Math.min(count, buffer.length() - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.length() - position;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        mark = position;
+    }
+
+    @Override
+    public synchronized void reset() {
+        position = mark;
+    }
+}
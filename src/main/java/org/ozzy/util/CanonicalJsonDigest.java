@@ -0,0 +1,183 @@
+package org.ozzy.util;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+final class CanonicalJsonDigest {
+
+    private final MessageDigest digest;
+    private final byte[] buffer = new byte[1024];
+    private int position;
+
+    CanonicalJsonDigest(MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    CanonicalJsonDigest field(String value) {
+        string(value);
+        return write((byte) 0);
+    }
+
+    CanonicalJsonDigest node(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return ascii("null");
+        }
+        switch (node.getNodeType()) {
+            case OBJECT:
+                return object(node);
+            case ARRAY:
+                write((byte) '[');
+                for (int i = 0; i < node.size(); i++) {
+                    if (i > 0) {
+                        write((byte) ',');
+                    }
+                    node(node.get(i));
+                }
+                return write((byte) ']');
+            case STRING:
+                return string(node.textValue());
+            case BOOLEAN:
+                return ascii(node.booleanValue() ? "true" : "false");
+            case NUMBER:
+                return number(node);
+            default:
+                return string(node.asText());
+        }
+    }
+
+    byte[] finish() {
+        flush();
+        return digest.digest();
+    }
+
+    private CanonicalJsonDigest object(JsonNode node) {
+        String[] names = new String[node.size()];
+        Iterator<String> iterator = node.fieldNames();
+        for (int i = 0; iterator.hasNext(); i++) {
+            names[i] = iterator.next();
+        }
+        if (names.length > 1) {
+            Arrays.sort(names);
+        }
+        write((byte) '{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                write((byte) ',');
+            }
+            string(names[i]);
+            write((byte) ':');
+            node(node.get(names[i]));
+        }
+        return write((byte) '}');
+    }
+
+    private CanonicalJsonDigest number(JsonNode node) {
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            long value = node.longValue();
+            if (value == Long.MIN_VALUE) {
+                return ascii(Long.toString(value));
+            }
+            if (value == 0) {
+                return write((byte) '0');
+            }
+            if (value < 0) {
+                write((byte) '-');
+            }
+            return digits(value);
+        }
+        return ascii(node.decimalValue().stripTrailingZeros().toPlainString());
+    }
+
+    private CanonicalJsonDigest digits(long value) {
+        long divisor = 1;
+        while (Math.abs(value / divisor) >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            write((byte) ('0' + Math.abs((value / divisor) % 10)));
+        }
+        return this;
+    }
+
+    private CanonicalJsonDigest string(String value) {
+        if (value == null) {
+            return ascii("null");
+        }
+        write((byte) '"');
+        int length = value.length();
+        int i = 0;
+        if (length < buffer.length) {
+            if (position + length > buffer.length) {
+                flush();
+            }
+            while (i < length) {
+                char c = value.charAt(i);
+                if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                    break;
+                }
+                buffer[position++] = (byte) c;
+                i++;
+            }
+        }
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                write((byte) '\\');
+                write((byte) c);
+            } else if (c < 0x20) {
+                write((byte) '\\');
+                write((byte) 'u');
+                write((byte) '0');
+                write((byte) '0');
+                write(hex(c >> 4));
+                write(hex(c));
+            } else if (c < 0x80) {
+                write((byte) c);
+            } else if (c < 0x800) {
+                write((byte) (0xc0 | (c >> 6)));
+                write((byte) (0x80 | (c & 0x3f)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                write((byte) (0xf0 | (codePoint >> 18)));
+                write((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+                write((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+                write((byte) (0x80 | (codePoint & 0x3f)));
+            } else {
+                write((byte) (0xe0 | (c >> 12)));
+                write((byte) (0x80 | ((c >> 6) & 0x3f)));
+                write((byte) (0x80 | (c & 0x3f)));
+            }
+        }
+        return write((byte) '"');
+    }
+
+    private static byte hex(int nibble) {
+        return (byte) "0123456789abcdef".charAt(nibble & 0x0f);
+    }
+
+    private CanonicalJsonDigest ascii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            write((byte) value.charAt(i));
+        }
+        return this;
+    }
+
+    private CanonicalJsonDigest write(byte b) {
+        if (position == buffer.length) {
+            flush();
+        }
+        buffer[position++] = b;
+        return this;
+    }
+
+    private void flush() {
+        if (position > 0) {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
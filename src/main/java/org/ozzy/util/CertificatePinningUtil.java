@@ -2,6 +2,8 @@ package org.ozzy.util;
 
 import java.security.cert.Certificate;
 import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSocket;
@@ -13,6 +15,7 @@ import org.ozzy.model.MCPServer;
 public final class CertificatePinningUtil {
 
     private static final Logger LOG = Logger.getLogger(CertificatePinningUtil.class);
+    private static final Map<String, PinnedCertificate> TRUST_MANAGERS = new ConcurrentHashMap<>();
 
     private CertificatePinningUtil() {
     }
@@ -34,19 +37,36 @@ public final class CertificatePinningUtil {
             return false;
         }
 
-        String storedPem = normalizePem(server.getCertificate());
-        String retrievedPem = normalizePem(retrieveCertificatePem(server.getHost(), server.getPort()));
-        if (retrievedPem.isBlank()) {
-            LOG.warnf("Pinned certificate validation failed: unable to retrieve certificate for %s:%d",
-                    server.getHost(), server.getPort());
+        if (trustManager(server).isEmpty()) {
+            LOG.warnf("Pinned certificate validation failed: no certificate could be decoded for server %s",
+                    server.getId());
             return false;
         }
-        boolean match = storedPem.equals(retrievedPem);
-        if (!match) {
-            LOG.warnf("Pinned certificate validation failed: certificate mismatch for %s:%d",
-                    server.getHost(), server.getPort());
+        return true;
+    }
+
+    public static PinnedTrustManager trustManager(MCPServer server) {
+        if (!isPinningEnabled(server)) {
+            return null;
+        }
+        String certificate = server.getCertificate();
+        if (server.getId() == null) {
+            return PinnedTrustManager.fromPem(certificate);
+        }
+        PinnedCertificate pinned = TRUST_MANAGERS.get(server.getId());
+        if (pinned == null || !pinned.certificate.equals(certificate)) {
+            pinned = TRUST_MANAGERS.compute(server.getId(), (id, existing) ->
+                    existing != null && existing.certificate.equals(certificate)
+                            ? existing
+                            : new PinnedCertificate(certificate, PinnedTrustManager.fromPem(certificate)));
+        }
+        return pinned.trustManager;
+    }
+
+    public static void evict(String serverId) {
+        if (serverId != null) {
+            TRUST_MANAGERS.remove(serverId);
         }
-        return match;
     }
 
     public static String retrieveCertificatePem(String host, int port) {
@@ -92,4 +112,14 @@ public final class CertificatePinningUtil {
         }
         return pemCert.toString();
     }
+
+    private static final class PinnedCertificate {
+        private final String certificate;
+        private final PinnedTrustManager trustManager;
+
+        private PinnedCertificate(String certificate, PinnedTrustManager trustManager) {
+            this.certificate = certificate;
+            this.trustManager = trustManager;
+        }
+    }
 }
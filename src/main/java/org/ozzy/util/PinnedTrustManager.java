@@ -0,0 +1,148 @@
+package org.ozzy.util;
+
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.net.TrustOptions;
+
+public final class PinnedTrustManager extends X509ExtendedTrustManager {
+
+    private static final Logger LOG = Logger.getLogger(PinnedTrustManager.class);
+    private static final String BEGIN = "-----BEGINCERTIFICATE-----";
+    private static final String END = "-----ENDCERTIFICATE-----";
+    private static final X509Certificate[] NO_ISSUERS = new X509Certificate[0];
+
+    private final byte[][] pinnedChain;
+    private final SSLContext sslContext;
+    private volatile HttpClient httpClient;
+
+    private PinnedTrustManager(byte[][] pinnedChain) {
+        this.pinnedChain = pinnedChain;
+        this.sslContext = createSslContext(this);
+    }
+
+    static PinnedTrustManager fromPem(String pem) {
+        String normalized = CertificatePinningUtil.normalizePem(pem);
+        List<byte[]> chain = new ArrayList<>();
+        int start = normalized.indexOf(BEGIN);
+        while (start >= 0) {
+            int end = normalized.indexOf(END, start);
+            if (end < 0) {
+                break;
+            }
+            try {
+                chain.add(Base64.getDecoder().decode(normalized.substring(start + BEGIN.length(), end)));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Pinned certificate contains invalid base64 data; rejecting all connections");
+                return new PinnedTrustManager(new byte[0][]);
+            }
+            start = normalized.indexOf(BEGIN, end);
+        }
+        return new PinnedTrustManager(chain.toArray(new byte[0][]));
+    }
+
+    public boolean isEmpty() {
+        return pinnedChain.length == 0;
+    }
+
+    public SSLContext sslContext() {
+        return sslContext;
+    }
+
+    HttpClient httpClient(Function<SSLContext, HttpClient> factory) {
+        HttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                if (httpClient == null) {
+                    httpClient = factory.apply(sslContext);
+                }
+                client = httpClient;
+            }
+        }
+        return client;
+    }
+
+    public TrustOptions trustOptions() {
+        return TrustOptions.wrap(this);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        verify(chain, null, -1);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        verify(chain, socket != null && socket.getInetAddress() != null ? socket.getInetAddress().getHostName() : null,
+                socket != null ? socket.getPort() : -1);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+        verify(chain, engine != null ? engine.getPeerHost() : null, engine != null ? engine.getPeerPort() : -1);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        throw new CertificateException("Pinned trust manager does not accept client certificates");
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+        checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return NO_ISSUERS;
+    }
+
+    private void verify(X509Certificate[] chain, String host, int port) throws CertificateException {
+        if (matches(chain)) {
+            return;
+        }
+        LOG.warnf("Pinned certificate validation failed: certificate mismatch for %s:%d", host, port);
+        throw new CertificateException("Server certificate does not match the pinned certificate");
+    }
+
+    private boolean matches(X509Certificate[] chain) throws CertificateException {
+        if (chain == null || chain.length != pinnedChain.length || pinnedChain.length == 0) {
+            return false;
+        }
+        for (int i = 0; i < chain.length; i++) {
+            if (!Arrays.equals(chain[i].getEncoded(), pinnedChain[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static SSLContext createSslContext(PinnedTrustManager trustManager) {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, new TrustManager[] {trustManager}, null);
+            return context;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to create pinned SSL context", e);
+        }
+    }
+}
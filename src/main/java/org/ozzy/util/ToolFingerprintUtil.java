@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +15,18 @@ import java.util.TreeSet;
 import org.ozzy.model.InputSchema;
 import org.ozzy.model.Tool;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public final class ToolFingerprintUtil {
 
+    public static final int VERSION_1 = 1;
+    public static final int VERSION_2 = 2;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final String VERSION_2_PREFIX = "v2:";
+    private static final ObjectMapper SCHEMA_MAPPER = new ObjectMapper();
+
     private ToolFingerprintUtil() {
     }
 
@@ -27,6 +38,70 @@ public final class ToolFingerprintUtil {
         return sha256(signature);
     }
 
+    public static String fingerprint(Tool tool, int version) {
+        if (version == VERSION_2) {
+            return fingerprintV2(tool);
+        }
+        return fingerprint(tool);
+    }
+
+    public static int version(String fingerprint) {
+        return fingerprint != null && fingerprint.startsWith(VERSION_2_PREFIX) ? VERSION_2 : VERSION_1;
+    }
+
+    public static int preferredVersion(Tool tool, int configuredVersion) {
+        return configuredVersion == VERSION_2 && tool != null && tool.getRawInputSchema() != null
+                ? VERSION_2
+                : VERSION_1;
+    }
+
+    private static String fingerprintV2(Tool tool) {
+        if (tool == null) {
+            return "";
+        }
+        JsonNode schema = tool.getRawInputSchema();
+        if (schema == null && tool.getInputSchema() != null) {
+            schema = SCHEMA_MAPPER.valueToTree(tool.getInputSchema());
+        }
+        byte[] hashed = new CanonicalJsonDigest(newDigest())
+                .field(tool.getName())
+                .field(tool.getDescription())
+                .node(schema)
+                .finish();
+        return VERSION_2_PREFIX + toHex(hashed);
+    }
+
+    public static String storedFingerprint(Tool tool) {
+        if (tool != null && tool.getFingerprint() != null) {
+            return tool.getFingerprint();
+        }
+        return fingerprint(tool);
+    }
+
+    public static String argumentsHash(JsonNode arguments) {
+        return toHex(new CanonicalJsonDigest(newDigest()).node(arguments).finish());
+    }
+
+    public static String catalogHash(Collection<Tool> tools) {
+        Map<String, String> fingerprints = new TreeMap<>();
+        if (tools != null) {
+            for (Tool tool : tools) {
+                if (tool != null && tool.getName() != null) {
+                    fingerprints.putIfAbsent(tool.getName(), storedFingerprint(tool));
+                }
+            }
+        }
+        return catalogHash(fingerprints);
+    }
+
+    public static String catalogHash(Map<String, String> fingerprintsByName) {
+        StringBuilder canonical = new StringBuilder();
+        for (Map.Entry<String, String> entry : new TreeMap<>(fingerprintsByName).entrySet()) {
+            canonical.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return sha256(canonical.toString());
+    }
+
     private static String buildSignature(Tool tool) {
         String name = safe(tool.getName());
         String description = safe(tool.getDescription());
@@ -53,19 +128,26 @@ public final class ToolFingerprintUtil {
     }
 
     private static String sha256(String value) {
+        return toHex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            StringBuilder builder = new StringBuilder();
-            for (byte b : hashed) {
-                builder.append(String.format("%02x", b));
-            }
-            return builder.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+
     private static String safe(String value) {
         return value == null ? "" : value;
     }
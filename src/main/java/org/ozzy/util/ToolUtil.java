@@ -1,11 +1,8 @@
 package org.ozzy.util;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -13,25 +10,6 @@ import java.net.http.HttpResponse;
 import java.time.Duration;
 
 import org.ozzy.model.InputSchema;
-import dev.langchain4j.agent.tool.ToolSpecification;
-import dev.langchain4j.mcp.McpToolExecutor;
-import dev.langchain4j.mcp.client.DefaultMcpClient;
-import dev.langchain4j.mcp.client.McpClient;
-import dev.langchain4j.mcp.client.transport.McpTransport;
-import dev.langchain4j.mcp.client.transport.http.StreamableHttpMcpTransport;
-import dev.langchain4j.model.chat.request.json.JsonObjectSchema;
-import dev.langchain4j.model.chat.request.json.JsonAnyOfSchema;
-import dev.langchain4j.model.chat.request.json.JsonArraySchema;
-import dev.langchain4j.model.chat.request.json.JsonBooleanSchema;
-import dev.langchain4j.model.chat.request.json.JsonEnumSchema;
-import dev.langchain4j.model.chat.request.json.JsonIntegerSchema;
-import dev.langchain4j.model.chat.request.json.JsonNullSchema;
-import dev.langchain4j.model.chat.request.json.JsonNumberSchema;
-import dev.langchain4j.model.chat.request.json.JsonRawSchema;
-import dev.langchain4j.model.chat.request.json.JsonReferenceSchema;
-import dev.langchain4j.model.chat.request.json.JsonStringSchema;
-import dev.langchain4j.model.chat.request.json.JsonSchemaElement;
-import dev.langchain4j.service.tool.ToolExecutor;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,139 +22,41 @@ public class ToolUtil {
     private static final Logger LOG = Logger.getLogger(ToolUtil.class);
     private static final String PROTOCOL_VERSION = "2025-11-25";
     private static final java.util.concurrent.ConcurrentHashMap<String, String> SESSION_CACHE = new java.util.concurrent.ConcurrentHashMap<>();
-
-    private String getType(JsonSchemaElement element) {
-        if (element instanceof JsonAnyOfSchema) {
-            return "AnyOf";
-        }
-        if (element instanceof JsonArraySchema) {
-            return "Array";
-        }
-        if (element instanceof JsonBooleanSchema) {
-            return "Boolean";
-        }
-        if (element instanceof JsonEnumSchema) {
-            return "Enum";
-        }
-        if (element instanceof JsonIntegerSchema) {
-            return "Integer";
-        }
-        if (element instanceof JsonNullSchema) {
-            return "Null";
-        }
-        if (element instanceof JsonNumberSchema) {
-            return "Number";
-        }
-        if (element instanceof JsonObjectSchema) {
-            return "Object";
-        }
-        if (element instanceof JsonRawSchema) {
-            return "Raw";
-        }
-        if (element instanceof JsonReferenceSchema) {
-            return "Reference";
-        }
-        if (element instanceof JsonStringSchema) {
-            return "String";
-        }
-        return null;
-    }
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
 
     public ArrayList<org.ozzy.model.Tool> getTools(String url){
         return getTools(url, java.util.Collections.emptyMap());
     }
 
     public ArrayList<org.ozzy.model.Tool> getTools(String url, Map<String, String> headers){
+        return getTools(url, headers, null);
+    }
+
+    public ArrayList<org.ozzy.model.Tool> getTools(String url, Map<String, String> headers, PinnedTrustManager trustManager){
         LOG.infof("Connecting to MCP server at: %s", url);
 
-        if (headers != null && !headers.isEmpty()) {
-            return fetchToolsViaHttp(url, headers);
+        if (trustManager != null) {
+            return fetchToolsViaHttp(trustManager.httpClient(context -> HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .sslContext(context)
+                    .build()), url, headers, false);
         }
-
-        try(McpTransport transport = new StreamableHttpMcpTransport.Builder()
-            .url(url)
-            .logRequests(true)
-            .logResponses(true)
-            .build();){
-
-            try(McpClient mcpClient = new DefaultMcpClient.Builder()
-                .key("MCPGateway")
-                .autoHealthCheck(Boolean.FALSE)
-                .transport(transport)
-                .cacheToolList(false)
-                .build();){
-
-
-                LOG.infof("Asking for tools");
-                
-                Map<ToolSpecification, ToolExecutor> tools = mcpClient.listTools().stream().collect(Collectors.toMap(
-                        tool -> tool, 
-                        tool -> new McpToolExecutor(mcpClient)
-                ));
-
-                LOG.infof(tools.toString());
-
-
-                LOG.infof("iterating tools");
-
-                List<ToolSpecification> toolspecs = mcpClient.listTools();
-
-                LOG.debugf("We foulnd %d tools", toolspecs.size());
-
-
-                ArrayList<org.ozzy.model.Tool> toolz = new ArrayList<>();
-                for(ToolSpecification tool : toolspecs){
-                    LOG.debugf("Discovered tool: %s - %s", tool.name(), tool.description());
-                    org.ozzy.model.Tool t = new org.ozzy.model.Tool();
-                    t.setName(tool.name());
-                    t.setDescription(tool.description());
-
-                    InputSchema inputSchema = new InputSchema();
-                    inputSchema.setProperties(new HashMap<>());
-                    inputSchema.setDefinitions(new HashMap<>());
-                    inputSchema.setRequired(new ArrayList<>());
-
-                    JsonObjectSchema params = tool.parameters();
-                    LOG.debugf("Tool params schema: %s", params);
-                    params.properties().forEach((propName, propSchema) -> {
-                        LOG.debugf("Property: %s(%s) - %s", propName,getType(propSchema), propSchema.description());
-                        InputSchema.Property property = new InputSchema.Property();
-                        property.setType(getType(propSchema));
-                        property.setDescription(propSchema.description());
-                        inputSchema.getProperties().put(propName, property);
-                    });
-                    params.definitions().forEach((defName, defSchema) -> {
-                        LOG.debugf("Definition: %s - %s", defName, defSchema);
-                        InputSchema.Property property = new InputSchema.Property();
-                        property.setType(getType(defSchema));
-                        property.setDescription(defSchema.description());
-                        inputSchema.getDefinitions().put(defName, property);
-                    });
-                    params.required().forEach(req -> {
-                        LOG.debugf("Required: %s", req);
-                        inputSchema.getRequired().add(req);
-                    });
-                    t.setInputSchema(inputSchema);
-                    toolz.add(t);
-                }
-                return toolz;
-            }catch(Exception e){
-                LOG.error("Error communicating with MCP server", e);
-            }  
-        }catch(IOException e){
-            LOG.error("Error setting up transport to MCP server", e);
-        } 
-        return null;
+        // Servers without headers used to be discovered through langchain4j, whose schema type names
+        // are baked into the fingerprints already approved for them.
+        return fetchToolsViaHttp(HTTP_CLIENT, url, headers, headers == null || headers.isEmpty());
     }
 
-    private ArrayList<org.ozzy.model.Tool> fetchToolsViaHttp(String url, Map<String, String> headers) {
+    private ArrayList<org.ozzy.model.Tool> fetchToolsViaHttp(HttpClient client, String url, Map<String, String> headers,
+                                                             boolean legacyTypes) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            ObjectNode payload = mapper.createObjectNode();
+            ObjectNode payload = MAPPER.createObjectNode();
             payload.put("jsonrpc", "2.0");
             payload.put("id", 1);
             payload.put("method", "tools/list");
-            payload.set("params", mapper.createObjectNode());
+            payload.set("params", MAPPER.createObjectNode());
 
             LOG.debugf("Tool list request -> %s", url);
             LOG.debugf("Tool list request headers: Content-Type=application/json, Accept=application/json, text/event-stream");
@@ -185,14 +65,14 @@ public class ToolUtil {
 
             String sessionKey = buildSessionKey(url, headers);
             String sessionId = SESSION_CACHE.get(sessionKey);
-            HttpResponse<String> response = sendJsonRpc(url, headers, sessionId, payload);
+            HttpResponse<String> response = sendJsonRpc(client, url, headers, sessionId, payload);
 
             if (response.statusCode() == 400 && requiresSession(response.body())) {
                 LOG.debug("Tool list requires MCP session; initializing.");
-                String newSessionId = initializeSession(url, headers);
+                String newSessionId = initializeSession(client, url, headers);
                 if (newSessionId != null && !newSessionId.isBlank()) {
                     SESSION_CACHE.put(sessionKey, newSessionId);
-                    response = sendJsonRpc(url, headers, newSessionId, payload);
+                    response = sendJsonRpc(client, url, headers, newSessionId, payload);
                 }
             }
 
@@ -205,7 +85,7 @@ public class ToolUtil {
                 return null;
             }
 
-            JsonNode root = parseResponseBody(mapper, response);
+            JsonNode root = parseResponseBody(response);
             if (root == null) {
                 LOG.warn("Tool list response could not be parsed.");
                 return null;
@@ -219,23 +99,87 @@ public class ToolUtil {
             for (JsonNode toolNode : (ArrayNode) toolsNode) {
                 org.ozzy.model.Tool tool = new org.ozzy.model.Tool();
                 tool.setName(toolNode.path("name").asText(null));
-                tool.setTitle(toolNode.path("title").asText(null));
                 tool.setDescription(toolNode.path("description").asText(null));
                 JsonNode inputSchemaNode = toolNode.get("inputSchema");
+                if (legacyTypes) {
+                    tool.setInputSchema(legacySchema(inputSchemaNode));
+                } else {
+                    tool.setTitle(toolNode.path("title").asText(null));
+                    if (inputSchemaNode != null && inputSchemaNode.isObject()) {
+                        tool.setInputSchema(MAPPER.treeToValue(inputSchemaNode, InputSchema.class));
+                    }
+                }
                 if (inputSchemaNode != null && inputSchemaNode.isObject()) {
-                    InputSchema schema = mapper.treeToValue(inputSchemaNode, InputSchema.class);
-                    tool.setInputSchema(schema);
+                    tool.setRawInputSchema(inputSchemaNode);
                 }
                 toolz.add(tool);
             }
             return toolz;
         } catch (Exception e) {
-            LOG.error("Error fetching tool list with headers", e);
+            LOG.error("Error fetching tool list", e);
             return null;
         }
     }
 
-    private JsonNode parseResponseBody(ObjectMapper mapper, HttpResponse<String> response) throws Exception {
+    private InputSchema legacySchema(JsonNode schemaNode) {
+        InputSchema inputSchema = new InputSchema();
+        inputSchema.setProperties(legacyProperties(schemaNode == null ? null : schemaNode.get("properties")));
+        JsonNode definitions = schemaNode == null ? null : schemaNode.get("$defs");
+        if (definitions == null && schemaNode != null) {
+            definitions = schemaNode.get("definitions");
+        }
+        inputSchema.setDefinitions(legacyProperties(definitions));
+        inputSchema.setRequired(new ArrayList<>());
+        if (schemaNode != null && schemaNode.path("required").isArray()) {
+            schemaNode.get("required").forEach(req -> inputSchema.getRequired().add(req.asText()));
+        }
+        return inputSchema;
+    }
+
+    private Map<String, InputSchema.Property> legacyProperties(JsonNode node) {
+        Map<String, InputSchema.Property> properties = new HashMap<>();
+        if (node != null && node.isObject()) {
+            node.fields().forEachRemaining(entry -> {
+                InputSchema.Property property = new InputSchema.Property();
+                property.setType(legacyType(entry.getValue()));
+                property.setDescription(entry.getValue().path("description").asText(null));
+                properties.put(entry.getKey(), property);
+            });
+        }
+        return properties;
+    }
+
+    private String legacyType(JsonNode schema) {
+        if (schema.has("anyOf")) {
+            return "AnyOf";
+        }
+        if (schema.has("$ref")) {
+            return "Reference";
+        }
+        if (schema.has("enum")) {
+            return "Enum";
+        }
+        switch (schema.path("type").asText("")) {
+            case "array":
+                return "Array";
+            case "boolean":
+                return "Boolean";
+            case "integer":
+                return "Integer";
+            case "null":
+                return "Null";
+            case "number":
+                return "Number";
+            case "object":
+                return "Object";
+            case "string":
+                return "String";
+            default:
+                return "Raw";
+        }
+    }
+
+    private JsonNode parseResponseBody(HttpResponse<String> response) throws Exception {
         String contentType = response.headers().firstValue("content-type").orElse("");
         String body = response.body();
         if (contentType.toLowerCase().contains("text/event-stream")) {
@@ -243,9 +187,9 @@ public class ToolUtil {
             if (json == null || json.isBlank()) {
                 return null;
             }
-            return mapper.readTree(json);
+            return MAPPER.readTree(json);
         }
-        return mapper.readTree(body);
+        return MAPPER.readTree(body);
     }
 
     private String extractFirstEventData(String body) {
@@ -264,7 +208,7 @@ public class ToolUtil {
         return data.toString();
     }
 
-    private HttpResponse<String> sendJsonRpc(String url, Map<String, String> headers, String sessionId, ObjectNode payload)
+    private HttpResponse<String> sendJsonRpc(HttpClient client, String url, Map<String, String> headers, String sessionId, ObjectNode payload)
             throws Exception {
         HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
                 .uri(URI.create(url))
@@ -288,7 +232,6 @@ public class ToolUtil {
             });
         }
 
-        HttpClient client = HttpClient.newHttpClient();
         return client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
     }
 
@@ -299,30 +242,29 @@ public class ToolUtil {
         return body.contains("Mcp-Session-Id") && body.toLowerCase().contains("required");
     }
 
-    private String initializeSession(String url, Map<String, String> headers) {
+    private String initializeSession(HttpClient client, String url, Map<String, String> headers) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            ObjectNode payload = mapper.createObjectNode();
+            ObjectNode payload = MAPPER.createObjectNode();
             payload.put("jsonrpc", "2.0");
             payload.put("id", 1);
             payload.put("method", "initialize");
 
-            ObjectNode params = mapper.createObjectNode();
+            ObjectNode params = MAPPER.createObjectNode();
             params.put("protocolVersion", PROTOCOL_VERSION);
-            ObjectNode capabilities = mapper.createObjectNode();
-            ObjectNode tools = mapper.createObjectNode();
+            ObjectNode capabilities = MAPPER.createObjectNode();
+            ObjectNode tools = MAPPER.createObjectNode();
             tools.put("listChanged", false);
             capabilities.set("tools", tools);
             params.set("capabilities", capabilities);
 
-            ObjectNode clientInfo = mapper.createObjectNode();
+            ObjectNode clientInfo = MAPPER.createObjectNode();
             clientInfo.put("name", "MCPGateway");
             clientInfo.put("version", "1.0.0");
             params.set("clientInfo", clientInfo);
             payload.set("params", params);
 
             LOG.debugf("Initialize request payload: %s", payload.toString());
-            HttpResponse<String> response = sendJsonRpc(url, headers, null, payload);
+            HttpResponse<String> response = sendJsonRpc(client, url, headers, null, payload);
             LOG.debugf("Initialize response status: %d", response.statusCode());
             response.headers().map().forEach((key, values) ->
                     LOG.debugf("Initialize response header %s: %s", key, values));
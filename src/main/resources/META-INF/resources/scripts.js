@@ -1167,6 +1167,13 @@ document.addEventListener('DOMContentLoaded', () => {
             oauthClientId: existing?.oauthClientId || null,
             oauthAccessToken: existing?.oauthAccessToken || null,
             oauthRefreshToken: existing?.oauthRefreshToken || null,
+            maxPoolSize: existing?.maxPoolSize ?? null,
+            keepAliveTimeoutSeconds: existing?.keepAliveTimeoutSeconds ?? null,
+            pipelining: existing?.pipelining ?? null,
+            connectTimeoutMillis: existing?.connectTimeoutMillis ?? null,
+            idleTimeoutSeconds: existing?.idleTimeoutSeconds ?? null,
+            http2: existing?.http2 ?? null,
+            http2MaxConcurrentStreams: existing?.http2MaxConcurrentStreams ?? null,
             path,
             protocol,
             remotePath,
@@ -1798,6 +1805,16 @@ document.addEventListener('DOMContentLoaded', () => {
                 authUsername: gateway.authUsername || null,
                 authPassword: gateway.authPassword || null,
                 authToken: gateway.authToken || null,
+                http2Enabled: gateway.http2Enabled ?? null,
+                http2MaxConcurrentStreams: gateway.http2MaxConcurrentStreams ?? null,
+                http2InitialWindowSize: gateway.http2InitialWindowSize ?? null,
+                http2HeaderTableSize: gateway.http2HeaderTableSize ?? null,
+                rateLimitPerSecond: gateway.rateLimitPerSecond ?? null,
+                rateLimitBurst: gateway.rateLimitBurst ?? null,
+                maxConcurrentCalls: gateway.maxConcurrentCalls ?? null,
+                clientRateLimitPerSecond: gateway.clientRateLimitPerSecond ?? null,
+                clientRateLimitBurst: gateway.clientRateLimitBurst ?? null,
+                clientMaxConcurrentCalls: gateway.clientMaxConcurrentCalls ?? null,
                 tools: gateway.tools
             })
         }).then(response => {
@@ -1849,7 +1866,17 @@ document.addEventListener('DOMContentLoaded', () => {
             authType,
             authUsername: authType === 'BASIC' ? authUsername : null,
             authPassword: authType === 'BASIC' ? authPassword : null,
-            authToken: authType === 'BEARER' ? authToken : null
+            authToken: authType === 'BEARER' ? authToken : null,
+            http2Enabled: existing?.http2Enabled ?? null,
+            http2MaxConcurrentStreams: existing?.http2MaxConcurrentStreams ?? null,
+            http2InitialWindowSize: existing?.http2InitialWindowSize ?? null,
+            http2HeaderTableSize: existing?.http2HeaderTableSize ?? null,
+            rateLimitPerSecond: existing?.rateLimitPerSecond ?? null,
+            rateLimitBurst: existing?.rateLimitBurst ?? null,
+            maxConcurrentCalls: existing?.maxConcurrentCalls ?? null,
+            clientRateLimitPerSecond: existing?.clientRateLimitPerSecond ?? null,
+            clientRateLimitBurst: existing?.clientRateLimitBurst ?? null,
+            clientMaxConcurrentCalls: existing?.clientMaxConcurrentCalls ?? null
         };
 
         if (currentEditIndex === null) {
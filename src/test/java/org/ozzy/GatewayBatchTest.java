@@ -0,0 +1,202 @@
+package org.ozzy;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(TestConfigProfile.class)
+class GatewayBatchTest {
+
+    private static final String TOOLS = "[" + tool("slow") + "," + tool("fast") + "]";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private HttpServer backend;
+    private String gatewayId;
+    private int gatewayPort;
+
+    @BeforeEach
+    void startGateway() throws Exception {
+        Files.deleteIfExists(Path.of(TestConfigProfile.TEST_PROPERTIES_PATH));
+
+        backend = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        backend.setExecutor(Executors.newCachedThreadPool());
+        backend.createContext("/mcp", exchange -> {
+            JsonNode request = mapper.readTree(exchange.getRequestBody());
+            ObjectNode response = mapper.createObjectNode().put("jsonrpc", "2.0");
+            response.set("id", request.get("id"));
+            if ("tools/list".equals(request.path("method").asText())) {
+                response.putObject("result").set("tools", mapper.readTree(TOOLS));
+            } else {
+                String name = request.path("params").path("name").asText();
+                if ("slow".equals(name)) {
+                    try {
+                        Thread.sleep(300);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                response.putObject("result").putArray("content").addObject()
+                        .put("type", "text")
+                        .put("text", name);
+            }
+            byte[] body = mapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        backend.start();
+
+        String serverId = given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body("{" +
+                "\"name\":\"Batch Backend\"," +
+                "\"host\":\"127.0.0.1\"," +
+                "\"port\":" + backend.getAddress().getPort() + "," +
+                "\"type\":\"remote\"," +
+                "\"protocol\":\"HTTP\"," +
+                "\"remotePath\":\"/mcp\"," +
+                "\"tools\":" + TOOLS +
+                "}")
+            .when()
+            .post("/mcp-servers")
+            .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+
+        try (ServerSocket socket = new ServerSocket(0)) {
+            gatewayPort = socket.getLocalPort();
+        }
+        gatewayId = given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body("{" +
+                "\"name\":\"Batch Gateway\"," +
+                "\"host\":\"127.0.0.1\"," +
+                "\"port\":" + gatewayPort + "," +
+                "\"tools\":[" +
+                "{\"serverId\":\"" + serverId + "\",\"toolName\":\"slow\"}," +
+                "{\"serverId\":\"" + serverId + "\",\"toolName\":\"fast\"}" +
+                "]}")
+            .when()
+            .post("/mcp-gateways")
+            .then()
+            .statusCode(200)
+            .extract()
+            .path("id");
+
+        given()
+            .header("Authorization", authHeader())
+            .when()
+            .post("/mcp-gateways/" + gatewayId + "/start")
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("STARTED"));
+    }
+
+    @AfterEach
+    void stopGateway() {
+        given()
+            .header("Authorization", authHeader())
+            .when()
+            .post("/mcp-gateways/" + gatewayId + "/stop");
+        backend.stop(0);
+    }
+
+    @Test
+    void answersOnlyTheRequestsOfAMixedBatch() {
+        postToGateway("[" +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"ping\"}," +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/cancelled\",\"params\":{\"requestId\":7}}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/call\",\"params\":{\"name\":\"fast\",\"arguments\":{}}}" +
+                "]")
+            .then()
+            .statusCode(200)
+            .body("id", containsInAnyOrder(1, 2))
+            .body("find { it.id == 2 }.result.content[0].text", equalTo("fast"));
+    }
+
+    @Test
+    void allNotificationBatchHasNoContent() {
+        postToGateway("[" +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}," +
+                "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/cancelled\",\"params\":{\"requestId\":7}}" +
+                "]")
+            .then()
+            .statusCode(204);
+    }
+
+    @Test
+    void emptyBatchIsAnInvalidRequest() {
+        postToGateway("[]")
+            .then()
+            .body("id", nullValue())
+            .body("error.code", equalTo(-32600));
+    }
+
+    @Test
+    void streamsResponsesAsCallsComplete() {
+        postToGateway("[" +
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/call\",\"params\":{\"name\":\"slow\",\"arguments\":{}}}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/call\",\"params\":{\"name\":\"fast\",\"arguments\":{}}}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":3,\"method\":\"ping\"}," +
+                "{\"jsonrpc\":\"2.0\",\"id\":4,\"method\":\"unknown/method\"}" +
+                "]")
+            .then()
+            .statusCode(200)
+            .body("id", containsInAnyOrder(1, 2, 3, 4))
+            .body("id[3]", equalTo(1))
+            .body("find { it.id == 1 }.result.content[0].text", equalTo("slow"))
+            .body("find { it.id == 2 }.result.content[0].text", equalTo("fast"))
+            .body("find { it.id == 4 }.error.code", equalTo(-32601));
+    }
+
+    private io.restassured.response.Response postToGateway(String body) {
+        return given()
+            .baseUri("http://127.0.0.1")
+            .port(gatewayPort)
+            .contentType("application/json")
+            .accept("application/json, text/event-stream")
+            .body(body)
+            .when()
+            .post("/mcp");
+    }
+
+    private String authHeader() {
+        String token = Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+        return "Basic " + token;
+    }
+
+    private static String tool(String name) {
+        return "{\"name\":\"" + name + "\",\"description\":\"" + name + " echo\",\"inputSchema\":{" +
+            "\"type\":\"object\",\"properties\":{\"text\":{\"type\":\"string\",\"description\":\"text\"}}," +
+            "\"required\":[]}}";
+    }
+}
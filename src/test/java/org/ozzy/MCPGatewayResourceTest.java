@@ -3,6 +3,7 @@ package org.ozzy;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -98,4 +99,69 @@ class MCPGatewayResourceTest {
             .statusCode(200)
             .body("name", equalTo("Gateway Updated"));
     }
+
+    @Test
+    void updateGatewayClearsHttp2Settings() {
+        String payload = "{\"name\":\"Gateway One\",\"host\":\"localhost\",\"port\":8888," +
+            "\"http2Enabled\":true,\"http2MaxConcurrentStreams\":50}";
+
+        String id = given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body(payload)
+            .when()
+            .post("/mcp-gateways")
+            .then()
+            .statusCode(200)
+            .body("http2MaxConcurrentStreams", equalTo(50))
+            .extract()
+            .path("id");
+
+        String updatePayload = "{\"id\":\"" + id + "\",\"name\":\"Gateway One\",\"host\":\"localhost\"," +
+            "\"port\":8888,\"status\":\"STOPPED\",\"http2Enabled\":true}";
+
+        given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body(updatePayload)
+            .when()
+            .put("/mcp-gateways/" + id)
+            .then()
+            .statusCode(200)
+            .body("http2Enabled", equalTo(true))
+            .body("http2MaxConcurrentStreams", nullValue());
+    }
+
+    @Test
+    void updateGatewayClearsRateLimits() {
+        String payload = "{\"name\":\"Gateway One\",\"host\":\"localhost\",\"port\":8888," +
+            "\"rateLimitPerSecond\":10,\"rateLimitBurst\":20,\"clientMaxConcurrentCalls\":2}";
+
+        String id = given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body(payload)
+            .when()
+            .post("/mcp-gateways")
+            .then()
+            .statusCode(200)
+            .body("rateLimitPerSecond", equalTo(10))
+            .extract()
+            .path("id");
+
+        String updatePayload = "{\"id\":\"" + id + "\",\"name\":\"Gateway One\",\"host\":\"localhost\"," +
+            "\"port\":8888,\"status\":\"STOPPED\",\"rateLimitPerSecond\":5}";
+
+        given()
+            .header("Authorization", authHeader())
+            .contentType("application/json")
+            .body(updatePayload)
+            .when()
+            .put("/mcp-gateways/" + id)
+            .then()
+            .statusCode(200)
+            .body("rateLimitPerSecond", equalTo(5))
+            .body("rateLimitBurst", nullValue())
+            .body("clientMaxConcurrentCalls", nullValue());
+    }
 }
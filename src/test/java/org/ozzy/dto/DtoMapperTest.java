@@ -18,6 +18,8 @@ class DtoMapperTest {
         ref.setToolName("tool-1");
         ref.setValidationMode("PER_TIME_PERIOD");
         ref.setValidationPeriodSeconds(1800L);
+        ref.setIdempotent(true);
+        ref.setCacheTtlSeconds(60L);
 
         MCPGateway gateway = new MCPGateway();
         gateway.setId("gateway-1");
@@ -39,6 +41,8 @@ class DtoMapperTest {
         assertEquals("tool-1", toolDto.getToolName());
         assertEquals("PER_TIME_PERIOD", toolDto.getValidationMode());
         assertEquals(1800L, toolDto.getValidationPeriodSeconds());
+        assertEquals(Boolean.TRUE, toolDto.getIdempotent());
+        assertEquals(60L, toolDto.getCacheTtlSeconds());
         assertEquals("BASIC", dto.getAuthType());
         assertEquals("admin", dto.getAuthUsername());
         assertEquals("secret", dto.getAuthPassword());
@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -61,4 +62,48 @@ class PropertiesMCPGatewayRepositoryTest {
         assertThat(loaded.get("g-2").getStatus(), equalTo("STARTED"));
         assertThat(loaded.keySet(), containsInAnyOrder("g-1", "g-2"));
     }
+
+    @Test
+    void saveAndLoadHttp2Settings() {
+        MCPGateway gateway = new MCPGateway();
+        gateway.setId("g-1");
+        gateway.setName("Gateway One");
+        gateway.setHost("localhost");
+        gateway.setPort(8888);
+        gateway.setStatus("STOPPED");
+        gateway.setHttp2Enabled(true);
+        gateway.setHttp2MaxConcurrentStreams(256L);
+        gateway.setHttp2InitialWindowSize(1048576);
+
+        repository.saveAll(Map.of(gateway.getId(), gateway));
+
+        MCPGateway loaded = repository.loadAll().get("g-1");
+        assertThat(loaded.getHttp2Enabled(), equalTo(true));
+        assertThat(loaded.getHttp2MaxConcurrentStreams(), equalTo(256L));
+        assertThat(loaded.getHttp2InitialWindowSize(), equalTo(1048576));
+        assertThat(loaded.getHttp2HeaderTableSize(), nullValue());
+    }
+
+    @Test
+    void saveAndLoadRateLimits() {
+        MCPGateway gateway = new MCPGateway();
+        gateway.setId("g-1");
+        gateway.setName("Gateway One");
+        gateway.setHost("localhost");
+        gateway.setPort(8888);
+        gateway.setStatus("STOPPED");
+        gateway.setRateLimitPerSecond(100);
+        gateway.setMaxConcurrentCalls(20);
+        gateway.setClientRateLimitPerSecond(5);
+        gateway.setClientRateLimitBurst(10);
+
+        repository.saveAll(Map.of(gateway.getId(), gateway));
+
+        MCPGateway loaded = repository.loadAll().get("g-1");
+        assertThat(loaded.getRateLimitPerSecond(), equalTo(100));
+        assertThat(loaded.getMaxConcurrentCalls(), equalTo(20));
+        assertThat(loaded.getClientRateLimitPerSecond(), equalTo(5));
+        assertThat(loaded.getClientRateLimitBurst(), equalTo(10));
+        assertThat(loaded.getClientMaxConcurrentCalls(), nullValue());
+    }
 }
@@ -3,6 +3,7 @@ package org.ozzy.persistence.impl;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -53,4 +54,45 @@ class PropertiesMCPServerRepositoryTest {
         assertThat(loaded.get(0).getCertificate(), equalTo("-----BEGIN CERTIFICATE-----\nTEST\n-----END CERTIFICATE-----"));
         assertThat(loaded.get(0).getOauthClientId(), equalTo("client-123"));
     }
+
+    @Test
+    void saveAndLoadUpstreamClientSettings() {
+        MCPServer server = new MCPServer();
+        server.setName("Server One");
+        server.setHost("localhost");
+        server.setPort(8080);
+        server.setType("remote");
+        server.setProtocol("HTTP");
+        server.setRemotePath("/mcp");
+        server.setMaxPoolSize(32);
+        server.setKeepAliveTimeoutSeconds(30);
+        server.setPipelining(true);
+        server.setConnectTimeoutMillis(2500);
+
+        repository.saveAll(List.of(server));
+
+        MCPServer loaded = repository.loadAll().get(0);
+        assertThat(loaded.getMaxPoolSize(), equalTo(32));
+        assertThat(loaded.getKeepAliveTimeoutSeconds(), equalTo(30));
+        assertThat(loaded.getPipelining(), equalTo(true));
+        assertThat(loaded.getConnectTimeoutMillis(), equalTo(2500));
+        assertThat(loaded.getIdleTimeoutSeconds(), nullValue());
+    }
+
+    @Test
+    void saveAndLoadReplicas() {
+        MCPServer server = new MCPServer();
+        server.setName("Server One");
+        server.setHost("localhost");
+        server.setPort(8080);
+        server.setType("remote");
+        server.setProtocol("HTTP");
+        server.setRemotePath("/mcp");
+        server.setReplicas(List.of("replica-1:8080", "replica-2:8081"));
+
+        repository.saveAll(List.of(server));
+
+        MCPServer loaded = repository.loadAll().get(0);
+        assertThat(loaded.getReplicas(), equalTo(List.of("replica-1:8080", "replica-2:8081")));
+    }
 }
@@ -0,0 +1,128 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shedsCallsBeyondTheCurrentLimit() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(registry, 2, 1, 10, 0.5, 2.0);
+
+        AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire("server-1");
+        assertNotNull(first);
+        assertNotNull(limiter.tryAcquire("server-1"));
+        assertNull(limiter.tryAcquire("server-1"));
+        assertEquals(2, limiter.inFlight("server-1"));
+
+        first.release();
+        first.release();
+
+        assertEquals(1, limiter.inFlight("server-1"));
+        assertNotNull(limiter.tryAcquire("server-1"));
+        assertEquals(1.0, registry.get("mcp.upstream.concurrency.rejected.count")
+                .tag("serverId", "server-1").counter().count());
+        assertEquals(2.0, registry.get("mcp.upstream.concurrency.inflight")
+                .tag("serverId", "server-1").gauge().value());
+    }
+
+    @Test
+    void growsWhileLatencyStaysFlatUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 4, 1, 6, 0.5,
+                2.0);
+
+        for (int round = 0; round < 5; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(limiter);
+            permits.forEach(permit -> permit.onSample(FAST, true));
+        }
+
+        assertEquals(6, limiter.currentLimit("server-1"));
+    }
+
+    @Test
+    void backsOffWhenLatencyRises() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(registry, 10, 2, 20, 0.5, 2.0);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire("server-1").onSample(FAST, true);
+        }
+        int before = limiter.currentLimit("server-1");
+
+        limiter.tryAcquire("server-1").onSample(SLOW, true);
+
+        assertEquals(before / 2, limiter.currentLimit("server-1"));
+        assertEquals((double) before / 2, registry.get("mcp.upstream.concurrency.limit")
+                .tag("serverId", "server-1").gauge().value());
+    }
+
+    @Test
+    void baselineTracksMinimumRoundTripWithinWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 10, 2, 20, 0.5,
+                2.0);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire("server-1").onSample(FAST, true);
+        }
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("server-1").onSample(SLOW, true);
+        }
+
+        assertEquals(10, limiter.retryAfterMillis("server-1"));
+
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire("server-1").onSample(SLOW, true);
+        }
+
+        assertEquals(100, limiter.retryAfterMillis("server-1"));
+    }
+
+    @Test
+    void backsOffOncePerRoundTripAndNeverBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 8, 3, 20, 0.5,
+                2.0);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll(limiter);
+
+        permits.forEach(permit -> permit.onSample(SLOW, false));
+
+        assertEquals(4, limiter.currentLimit("server-1"));
+
+        AdaptiveConcurrencyLimiter floored = new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 4, 3, 20, 0.5,
+                2.0);
+        floored.tryAcquire("server-1").onSample(SLOW, false);
+
+        assertEquals(3, floored.currentLimit("server-1"));
+    }
+
+    @Test
+    void evictRemovesMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(registry, 2, 1, 10, 0.5, 2.0);
+        limiter.tryAcquire("server-1");
+
+        limiter.evict("server-1");
+
+        assertNull(registry.find("mcp.upstream.concurrency.limit").gauge());
+        assertEquals(0, limiter.inFlight("server-1"));
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquireAll(AdaptiveConcurrencyLimiter limiter) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire("server-1")) != null) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,142 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class BackendCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 1000;
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        BackendCircuitBreaker breaker = breaker();
+
+        for (int i = 0; i < 3; i++) {
+            BackendCircuitBreaker.Permit permit = breaker.tryAcquire(0);
+            assertNotNull(permit);
+            permit.onResult(false, 10, 0);
+        }
+
+        assertEquals(BackendCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensWhenFailureRateExceedsThreshold() {
+        BackendCircuitBreaker breaker = breaker();
+
+        record(breaker, 2, true, 10);
+        record(breaker, 2, false, 10);
+
+        assertEquals(BackendCircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire(OPEN_MILLIS - 1));
+        assertEquals(1, breaker.retryAfterMillis(OPEN_MILLIS - 1));
+        assertEquals(1, breaker.status(0).getRejected());
+    }
+
+    @Test
+    void opensWhenSlowCallRateExceedsThreshold() {
+        BackendCircuitBreaker breaker = breaker();
+
+        record(breaker, 4, true, 500);
+
+        assertEquals(BackendCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenAllowsLimitedProbesAndClosesOnSuccess() {
+        BackendCircuitBreaker breaker = breaker();
+        record(breaker, 4, false, 10);
+
+        BackendCircuitBreaker.Permit first = breaker.tryAcquire(OPEN_MILLIS);
+        assertNotNull(first);
+        assertEquals(BackendCircuitBreaker.State.HALF_OPEN, breaker.state());
+        BackendCircuitBreaker.Permit second = breaker.tryAcquire(OPEN_MILLIS);
+        assertNotNull(second);
+        assertNull(breaker.tryAcquire(OPEN_MILLIS));
+
+        first.onResult(true, 10, OPEN_MILLIS);
+        second.onResult(true, 10, OPEN_MILLIS);
+
+        assertEquals(BackendCircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0, breaker.status(OPEN_MILLIS).getCalls());
+    }
+
+    @Test
+    void failedProbeReopensCircuit() {
+        BackendCircuitBreaker breaker = breaker();
+        record(breaker, 4, false, 10);
+
+        breaker.tryAcquire(OPEN_MILLIS).onResult(false, 10, OPEN_MILLIS);
+
+        assertEquals(BackendCircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire(OPEN_MILLIS + 1));
+        assertNotNull(breaker.tryAcquire(2 * OPEN_MILLIS));
+    }
+
+    @Test
+    void ignoresResultsOfCallsAdmittedBeforeHalfOpen() {
+        BackendCircuitBreaker breaker = breaker();
+        BackendCircuitBreaker.Permit straggler = breaker.tryAcquire(0);
+        BackendCircuitBreaker.Permit slowStraggler = breaker.tryAcquire(0);
+        record(breaker, 4, false, 10);
+
+        BackendCircuitBreaker.Permit probe = breaker.tryAcquire(OPEN_MILLIS);
+        assertEquals(BackendCircuitBreaker.State.HALF_OPEN, breaker.state());
+        straggler.onResult(true, 10, OPEN_MILLIS);
+        slowStraggler.onResult(false, 10, OPEN_MILLIS);
+        slowStraggler.release();
+
+        assertEquals(BackendCircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertNotNull(breaker.tryAcquire(OPEN_MILLIS));
+        assertNull(breaker.tryAcquire(OPEN_MILLIS));
+
+        probe.onResult(false, 10, OPEN_MILLIS);
+        assertEquals(BackendCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void releasedProbeFreesItsSlot() {
+        BackendCircuitBreaker breaker = breaker();
+        record(breaker, 4, false, 10);
+
+        BackendCircuitBreaker.Permit probe = breaker.tryAcquire(OPEN_MILLIS);
+        assertNotNull(breaker.tryAcquire(OPEN_MILLIS));
+        assertNull(breaker.tryAcquire(OPEN_MILLIS));
+
+        probe.release();
+        probe.release();
+
+        assertNotNull(breaker.tryAcquire(OPEN_MILLIS));
+        assertNull(breaker.tryAcquire(OPEN_MILLIS));
+    }
+
+    @Test
+    void slidingWindowForgetsOldFailures() {
+        BackendCircuitBreaker breaker = breaker();
+        record(breaker, 1, false, 10);
+        record(breaker, 7, true, 10);
+        assertEquals(12.5f, breaker.status(0).getFailureRate());
+
+        record(breaker, 8, true, 10);
+
+        assertEquals(BackendCircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0f, breaker.status(0).getFailureRate());
+    }
+
+    private static void record(BackendCircuitBreaker breaker, int calls, boolean success, long durationMillis) {
+        for (int i = 0; i < calls; i++) {
+            BackendCircuitBreaker.Permit permit = breaker.tryAcquire(0);
+            if (permit != null) {
+                permit.onResult(success, durationMillis, 0);
+            }
+        }
+    }
+
+    private static BackendCircuitBreaker breaker() {
+        return new BackendCircuitBreaker("server-1",
+                new BackendCircuitBreaker.Settings(8, 4, 50, 80, 200, OPEN_MILLIS, 2));
+    }
+}
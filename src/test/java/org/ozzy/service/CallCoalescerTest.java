@@ -0,0 +1,74 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+import io.vertx.core.buffer.Buffer;
+
+class CallCoalescerTest {
+
+    @Test
+    void onlyCoalescesIdempotentToolsWhenEnabled() {
+        assertNull(new CallCoalescer(true, 1024).key("gateway-1", route(false, "fp-1"), "args"));
+        assertNull(new CallCoalescer(false, 1024).key("gateway-1", route(true, "fp-1"), "args"));
+        assertNull(new CallCoalescer(true, 1024).key("gateway-1", route(true, "fp-1"), null));
+        assertNotNull(new CallCoalescer(true, 1024).key("gateway-1", route(true, "fp-1"), "args"));
+    }
+
+    @Test
+    void keyIncludesApprovedFingerprint() {
+        CallCoalescer coalescer = new CallCoalescer(true, 1024);
+
+        assertNotEquals(coalescer.key("gateway-1", route(true, "fp-1"), "args"),
+                coalescer.key("gateway-1", route(true, "fp-2"), "args"));
+    }
+
+    @Test
+    void followersReceiveLeaderResponse() {
+        CallCoalescer coalescer = new CallCoalescer(true, 1024);
+        List<String> received = new ArrayList<>();
+
+        CallCoalescer.Flight leader = coalescer.join("key", message -> received.add("unexpected"));
+        assertNotNull(leader);
+        assertNull(coalescer.join("key", message -> received.add("first:" + message)));
+        assertNull(coalescer.join("key", message -> received.add("second:" + message)));
+
+        leader.complete(Buffer.buffer("done"));
+
+        assertEquals(List.of("first:done", "second:done"), received);
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void nothingIsRetainedAfterCompletion() {
+        CallCoalescer coalescer = new CallCoalescer(true, 1024);
+        CallCoalescer.Flight first = coalescer.join("key", message -> { });
+        first.complete(Buffer.buffer("done"));
+
+        CallCoalescer.Flight second = coalescer.join("key", message -> { });
+
+        assertNotNull(second);
+        assertNotEquals(first, second);
+    }
+
+    private static GatewayToolRoute route(boolean idempotent, String fingerprint) {
+        GatewayToolRef ref = new GatewayToolRef("server-1", "ticket");
+        ref.setIdempotent(idempotent);
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        Tool tool = new Tool();
+        tool.setName("ticket");
+        tool.setFingerprint(fingerprint);
+        return new GatewayToolRoute(ref, server, List.of(), tool, null);
+    }
+}
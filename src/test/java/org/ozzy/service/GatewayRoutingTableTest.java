@@ -0,0 +1,173 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.InputSchema;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+class GatewayRoutingTableTest {
+
+    @Test
+    void routesToolsToTheirServerAndStoredDefinition() {
+        Tool weather = buildTool("weather");
+        Tool news = buildTool("news");
+        MCPServer serverA = buildServer("server-a", "a.example", weather);
+        MCPServer serverB = buildServer("server-b", "b.example", news);
+
+        MCPGateway gateway = new MCPGateway("Gateway");
+        gateway.setTools(List.of(new GatewayToolRef("server-a", "weather"), new GatewayToolRef("server-b", "news")));
+
+        GatewayRoutingTable table = GatewayRoutingTable.compileAll(Map.of(gateway.getId(), gateway),
+                Map.of(serverA.getId(), serverA, serverB.getId(), serverB)).get(gateway.getId());
+
+        GatewayToolRoute route = table.route("news");
+        assertNotNull(route);
+        assertSame(serverB, route.getServer());
+        assertSame(news, route.getStoredTool());
+        assertEquals("b.example", route.getTarget().host);
+        assertEquals("/mcp", route.getTarget().path);
+        assertEquals(List.of(weather, news), table.getTools());
+    }
+
+    @Test
+    void keepsRouteWhenStoredToolIsMissing() {
+        MCPServer server = buildServer("server-a", "a.example");
+        MCPGateway gateway = new MCPGateway("Gateway");
+        gateway.setTools(List.of(new GatewayToolRef("server-a", "weather")));
+
+        GatewayRoutingTable table = GatewayRoutingTable.compileAll(Map.of(gateway.getId(), gateway),
+                Map.of(server.getId(), server)).get(gateway.getId());
+
+        assertNotNull(table.route("weather"));
+        assertNull(table.route("weather").getStoredTool());
+        assertNull(table.route("unknown"));
+        assertEquals(0, table.getTools().size());
+    }
+
+    @Test
+    void freshTableHasNoEncodedTools() {
+        MCPRegistrySnapshot snapshot = snapshot(buildServer("server-a", "a.example", buildTool("weather")),
+                gateway("weather"));
+
+        assertNull(snapshot.getRoutingTable(gatewayId(snapshot)).getEncodedTools());
+    }
+
+    @Test
+    void carriesEncodedToolsForwardWhenToolsAreUnchanged() {
+        MCPServer server = buildServer("server-a", "a.example", buildTool("weather"));
+        MCPServer other = buildServer("server-b", "b.example", buildTool("news"));
+        MCPRegistrySnapshot snapshot = snapshot(server, gateway("weather"));
+        byte[] encoded = "[]".getBytes();
+        snapshot.getRoutingTable(gatewayId(snapshot)).setEncodedTools(encoded);
+
+        MCPRegistrySnapshot updated = snapshot.withServers(List.of(server, other));
+
+        assertSame(encoded, updated.getRoutingTable(gatewayId(updated)).getEncodedTools());
+    }
+
+    @Test
+    void dropsEncodedToolsWhenAToolChanges() {
+        Tool weather = buildTool("weather");
+        MCPServer server = buildServer("server-a", "a.example", weather);
+        MCPRegistrySnapshot snapshot = snapshot(server, gateway("weather"));
+        snapshot.getRoutingTable(gatewayId(snapshot)).setEncodedTools("[]".getBytes());
+
+        weather.setDescription("changed");
+        MCPRegistrySnapshot updated = snapshot.withServers(List.of(server));
+
+        assertNull(updated.getRoutingTable(gatewayId(updated)).getEncodedTools());
+    }
+
+    @Test
+    void carriesEncodedToolsForwardWhenServersAreReloadedUnchanged() {
+        MCPServer server = buildServer("server-a", "a.example", buildTool("weather", "string"));
+        MCPRegistrySnapshot snapshot = snapshot(server, gateway("weather"));
+        byte[] encoded = "[]".getBytes();
+        snapshot.getRoutingTable(gatewayId(snapshot)).setEncodedTools(encoded);
+
+        MCPServer reloaded = buildServer("server-a", "a.example", buildTool("weather", "string"));
+        MCPRegistrySnapshot updated = snapshot.withServers(List.of(reloaded));
+
+        assertSame(encoded, updated.getRoutingTable(gatewayId(updated)).getEncodedTools());
+    }
+
+    @Test
+    void dropsEncodedToolsWhenAPropertyTypeChanges() {
+        MCPServer server = buildServer("server-a", "a.example", buildTool("weather", "string"));
+        MCPRegistrySnapshot snapshot = snapshot(server, gateway("weather"));
+        snapshot.getRoutingTable(gatewayId(snapshot)).setEncodedTools("[]".getBytes());
+
+        MCPServer reloaded = buildServer("server-a", "a.example", buildTool("weather", "integer"));
+        MCPRegistrySnapshot updated = snapshot.withServers(List.of(reloaded));
+
+        assertNull(updated.getRoutingTable(gatewayId(updated)).getEncodedTools());
+    }
+
+    @Test
+    void dropsEncodedToolsWhenGatewayRoutesChange() {
+        MCPServer server = buildServer("server-a", "a.example", buildTool("weather"), buildTool("news"));
+        MCPGateway gateway = gateway("weather");
+        MCPRegistrySnapshot snapshot = snapshot(server, gateway);
+        snapshot.getRoutingTable(gateway.getId()).setEncodedTools("[]".getBytes());
+
+        gateway.setTools(List.of(new GatewayToolRef("server-a", "weather"), new GatewayToolRef("server-a", "news")));
+        MCPRegistrySnapshot updated = snapshot.withGateways(List.of(gateway));
+
+        assertNull(updated.getRoutingTable(gateway.getId()).getEncodedTools());
+    }
+
+    private static MCPRegistrySnapshot snapshot(MCPServer server, MCPGateway gateway) {
+        return MCPRegistrySnapshot.EMPTY.withServers(List.of(server)).withGateways(List.of(gateway));
+    }
+
+    private static String gatewayId(MCPRegistrySnapshot snapshot) {
+        return snapshot.getGateways().keySet().iterator().next();
+    }
+
+    private static MCPGateway gateway(String toolName) {
+        MCPGateway gateway = new MCPGateway("Gateway");
+        gateway.setTools(List.of(new GatewayToolRef("server-a", toolName)));
+        return gateway;
+    }
+
+    private MCPServer buildServer(String id, String host, Tool... tools) {
+        MCPServer server = new MCPServer();
+        server.setId(id);
+        server.setHost(host);
+        server.setPort(8080);
+        server.setProtocol("HTTP");
+        server.setTools(List.of(tools));
+        return server;
+    }
+
+    private Tool buildTool(String name) {
+        Tool tool = new Tool();
+        tool.setName(name);
+        tool.setDescription(name + " tool");
+        return tool;
+    }
+
+    private Tool buildTool(String name, String cityType) {
+        InputSchema.Property city = new InputSchema.Property();
+        city.setType(cityType);
+        city.setDescription("city");
+        InputSchema schema = new InputSchema();
+        schema.setType("object");
+        schema.setProperties(new LinkedHashMap<>(Map.of("city", city)));
+        schema.setRequired(List.of("city"));
+        Tool tool = buildTool(name);
+        tool.setInputSchema(schema);
+        return tool;
+    }
+}
@@ -0,0 +1,83 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class HedgingPolicyTest {
+
+    @Test
+    void usesInitialDelayUntilEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy(true, 0, 1000, 20, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            policy.recordLatency("server-1", "search", 50);
+        }
+
+        assertEquals(1000, policy.hedgeDelayMillis("server-1", "search"));
+    }
+
+    @Test
+    void followsObservedP95() {
+        HedgingPolicy policy = new HedgingPolicy(true, 0, 1000, 20, 10, 10);
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency("server-1", "search", i * 10L);
+        }
+
+        assertEquals(950, policy.hedgeDelayMillis("server-1", "search"));
+        assertEquals(1000, policy.hedgeDelayMillis("server-1", "other"));
+    }
+
+    @Test
+    void clampsP95ToMinimumAndHonoursFixedDelay() {
+        HedgingPolicy adaptive = new HedgingPolicy(true, 0, 1000, 20, 10, 10);
+        HedgingPolicy fixed = new HedgingPolicy(true, 250, 1000, 20, 10, 10);
+        for (int i = 0; i < 40; i++) {
+            adaptive.recordLatency("server-1", "search", 2);
+            fixed.recordLatency("server-1", "search", 2);
+        }
+
+        assertEquals(20, adaptive.hedgeDelayMillis("server-1", "search"));
+        assertEquals(250, fixed.hedgeDelayMillis("server-1", "search"));
+    }
+
+    @Test
+    void budgetLimitsHedgesToConfiguredShare() {
+        HedgingPolicy policy = new HedgingPolicy(true, 0, 1000, 20, 10, 10);
+        assertFalse(policy.tryAcquireHedge("server-1"));
+
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.onRequest("server-1");
+            if (policy.tryAcquireHedge("server-1")) {
+                hedges++;
+            }
+        }
+
+        assertEquals(10, hedges);
+    }
+
+    @Test
+    void budgetIsCappedByBurst() {
+        HedgingPolicy policy = new HedgingPolicy(true, 0, 1000, 20, 50, 3);
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequest("server-1");
+        }
+
+        assertTrue(policy.tryAcquireHedge("server-1"));
+        assertTrue(policy.tryAcquireHedge("server-1"));
+        assertTrue(policy.tryAcquireHedge("server-1"));
+        assertFalse(policy.tryAcquireHedge("server-1"));
+
+        policy.evict("server-1");
+        assertFalse(policy.tryAcquireHedge("server-1"));
+    }
+
+    @Test
+    void disabledWithoutBudget() {
+        assertFalse(new HedgingPolicy(true, 0, 1000, 20, 0, 10).isEnabled());
+        assertFalse(new HedgingPolicy(false, 0, 1000, 20, 10, 10).isEnabled());
+        assertTrue(new HedgingPolicy(true, 0, 1000, 20, 10, 10).isEnabled());
+    }
+}
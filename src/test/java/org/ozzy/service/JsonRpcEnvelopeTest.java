@@ -0,0 +1,86 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.buffer.Buffer;
+
+class JsonRpcEnvelopeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void extractsEnvelopeFieldsAndSkipsArguments() throws Exception {
+        String body = "{\"params\":{\"arguments\":{\"doc\":{\"nested\":[1,2,{\"name\":\"inner\"}]}},\"name\":\"weather\"},"
+                + "\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"tools/call\"}";
+
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.parse(objectMapper, Buffer.buffer(body));
+
+        assertTrue(envelope.isObject());
+        assertEquals("2.0", envelope.getJsonrpc());
+        assertEquals("tools/call", envelope.getMethod());
+        assertEquals(7, envelope.getId().asInt());
+        assertEquals("weather", envelope.getToolName());
+    }
+
+    @Test
+    void keepsStringIdsAndMissingParams() throws Exception {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.parse(objectMapper,
+                Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":\"abc\",\"method\":\"ping\"}"));
+
+        assertEquals("\"abc\"", envelope.getId().toString());
+        assertNull(envelope.getToolName());
+    }
+
+    @Test
+    void reportsNonObjectBodies() throws Exception {
+        assertFalse(JsonRpcEnvelope.parse(objectMapper, Buffer.buffer("\"text\"")).isObject());
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThrows(IOException.class,
+                () -> JsonRpcEnvelope.parse(objectMapper, Buffer.buffer("{\"method\":\"ping\",\"params\":{")));
+    }
+
+    @Test
+    void splitsBatchIntoElementsWithRawSlices() throws Exception {
+        String first = "{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/call\",\"params\":{\"name\":\"weather\"}}";
+        String second = "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}";
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.parse(objectMapper,
+                Buffer.buffer("[ " + first + " , " + second + ", 5 ]"));
+
+        assertTrue(envelope.isBatch());
+        List<JsonRpcEnvelope> batch = envelope.getBatch();
+        assertEquals(3, batch.size());
+        assertEquals("weather", batch.get(0).getToolName());
+        assertEquals(first, batch.get(0).getRaw().toString());
+        assertNull(batch.get(1).getId());
+        assertEquals(second, batch.get(1).getRaw().toString());
+        assertFalse(batch.get(2).isObject());
+    }
+
+    @Test
+    void acceptsEmptyBatch() throws Exception {
+        JsonRpcEnvelope envelope = JsonRpcEnvelope.parse(objectMapper, Buffer.buffer("[]"));
+
+        assertTrue(envelope.isBatch());
+        assertTrue(envelope.getBatch().isEmpty());
+    }
+
+    @Test
+    void rejectsUnterminatedBatch() {
+        assertThrows(IOException.class,
+                () -> JsonRpcEnvelope.parse(objectMapper, Buffer.buffer("[{\"method\":\"ping\"}")));
+    }
+}
@@ -0,0 +1,74 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+class MCPRegistryTest {
+
+    @Test
+    void publishesGatewaysAndServersById() {
+        MCPRegistry registry = new MCPRegistry();
+
+        MCPGateway gateway = new MCPGateway("Gateway One");
+        MCPServer server = new MCPServer();
+        registry.publishGateways(List.of(gateway));
+        registry.publishServers(List.of(server));
+
+        assertEquals("Gateway One", registry.getGateway(gateway.getId()).getName());
+        assertEquals(server.getId(), registry.getServer(server.getId()).getId());
+        assertNull(registry.getGateway("missing"));
+        assertNull(registry.getServer(null));
+    }
+
+    @Test
+    void eachPublishCreatesNewVersion() {
+        MCPRegistry registry = new MCPRegistry();
+        MCPRegistrySnapshot initial = registry.snapshot();
+
+        MCPServer server = new MCPServer();
+        registry.publishServers(List.of(server));
+        MCPRegistrySnapshot afterServers = registry.snapshot();
+
+        registry.publishGateways(List.of());
+        MCPRegistrySnapshot afterGateways = registry.snapshot();
+
+        assertEquals(initial.getVersion() + 1, afterServers.getVersion());
+        assertEquals(afterServers.getVersion() + 1, afterGateways.getVersion());
+        assertNull(initial.getServer(server.getId()));
+        assertNotNull(afterGateways.getServer(server.getId()));
+    }
+
+    @Test
+    void publishedSnapshotIsIsolatedFromLaterMutation() {
+        MCPRegistry registry = new MCPRegistry();
+        Tool tool = new Tool();
+        tool.setName("search");
+        tool.setFingerprint("fp-1");
+        MCPServer server = new MCPServer();
+        server.setTools(new ArrayList<>(List.of(tool)));
+        MCPGateway gateway = new MCPGateway("Gateway One");
+        gateway.setTools(new ArrayList<>(List.of(new GatewayToolRef(server.getId(), "search"))));
+        registry.publishServers(List.of(server));
+        registry.publishGateways(List.of(gateway));
+
+        tool.setFingerprint("fp-2");
+        server.setTools(List.of());
+        gateway.setName("Renamed");
+        gateway.getTools().clear();
+
+        MCPRegistrySnapshot snapshot = registry.snapshot();
+        assertEquals("fp-1", snapshot.getServer(server.getId()).getTools().get(0).getFingerprint());
+        assertEquals("Gateway One", snapshot.getGateway(gateway.getId()).getName());
+        assertEquals(1, snapshot.getGateway(gateway.getId()).getTools().size());
+    }
+}
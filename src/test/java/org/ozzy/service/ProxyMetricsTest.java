@@ -0,0 +1,64 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProxyMetricsTest {
+
+    @Test
+    void registersToolMetersForRoutesAndRemovesStaleOnes() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProxyMetrics metrics = new ProxyMetrics(meterRegistry);
+
+        MCPServer server = new MCPServer();
+        server.setId("server-a");
+        MCPGateway gateway = new MCPGateway("Gateway");
+        gateway.setTools(List.of(new GatewayToolRef("server-a", "weather"), new GatewayToolRef("server-a", "news")));
+
+        MCPRegistrySnapshot snapshot = MCPRegistrySnapshot.EMPTY.withServers(List.of(server)).withGateways(List.of(gateway));
+        metrics.sync(snapshot);
+
+        assertNotNull(meterRegistry.find("mcp.tool.invocation.count").tag("tool", "news").counter());
+        ProxyMetrics.ToolMeters weather = metrics.tool(gateway.getId(), "server-a", "weather");
+        assertSame(weather, metrics.tool(gateway.getId(), "server-a", "weather"));
+
+        gateway.setTools(List.of(new GatewayToolRef("server-a", "weather")));
+        metrics.sync(snapshot.withGateways(List.of(gateway)));
+
+        assertNull(meterRegistry.find("mcp.tool.invocation.count").tag("tool", "news").counter());
+        assertSame(weather, metrics.tool(gateway.getId(), "server-a", "weather"));
+
+        metrics.sync(snapshot.withGateways(List.of()));
+
+        assertEquals(0, metrics.gatewayCount());
+        assertNull(meterRegistry.find("mcp.gateway.request.count").counter());
+    }
+
+    @Test
+    void recordsStreamBackpressurePerGateway() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProxyMetrics metrics = new ProxyMetrics(meterRegistry);
+
+        ProxyMetrics.GatewayMeters gateway = metrics.gateway("gateway-1");
+        gateway.streamPauses().increment();
+        gateway.streamBuffered().record(131072);
+
+        assertEquals(1.0, meterRegistry.get("mcp.gateway.stream.pause.count").tag("gatewayId", "gateway-1").counter().count());
+        assertEquals(131072.0, meterRegistry.get("mcp.gateway.stream.buffered.bytes").summary().totalAmount());
+
+        metrics.sync(MCPRegistrySnapshot.EMPTY);
+
+        assertNull(meterRegistry.find("mcp.gateway.stream.paused.duration").timer());
+    }
+}
@@ -0,0 +1,158 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPGateway;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+class RateLimiterRegistryTest {
+
+    @Test
+    void admitsEverythingWhenNoLimitsAreConfigured() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 16);
+        MCPGateway gateway = gateway();
+
+        for (int i = 0; i < 1000; i++) {
+            RateLimiterRegistry.Admission admission = registry.tryAcquire(gateway, route(null, null), "basic:a");
+            assertTrue(admission.isAdmitted());
+            assertFalse(admission.holdsPermits());
+        }
+        assertFalse(registry.tracksClients(gateway));
+    }
+
+    @Test
+    void rejectsBeyondBurstWithRetryHint() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 16);
+        MCPGateway gateway = gateway();
+        gateway.setRateLimitPerSecond(1);
+        gateway.setRateLimitBurst(3);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(registry.tryAcquire(gateway, null, null).isAdmitted());
+        }
+        RateLimiterRegistry.Admission rejected = registry.tryAcquire(gateway, null, null);
+
+        assertFalse(rejected.isAdmitted());
+        assertEquals(RateLimiterRegistry.SCOPE_GATEWAY, rejected.scope());
+        assertEquals(RateLimiterRegistry.REASON_RATE, rejected.reason());
+        assertTrue(rejected.retryAfterMillis() > 0 && rejected.retryAfterMillis() <= 1000);
+    }
+
+    @Test
+    void concurrencyPermitsAreReturnedOnRelease() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(250, 16);
+        MCPGateway gateway = gateway();
+        gateway.setMaxConcurrentCalls(1);
+
+        RateLimiterRegistry.Admission first = registry.tryAcquire(gateway, null, null);
+        RateLimiterRegistry.Admission second = registry.tryAcquire(gateway, null, null);
+
+        assertTrue(first.holdsPermits());
+        assertFalse(second.isAdmitted());
+        assertEquals(RateLimiterRegistry.REASON_CONCURRENCY, second.reason());
+        assertEquals(250, second.retryAfterMillis());
+
+        first.release();
+        first.release();
+
+        assertTrue(registry.tryAcquire(gateway, null, null).isAdmitted());
+        assertFalse(registry.tryAcquire(gateway, null, null).isAdmitted());
+    }
+
+    @Test
+    void clientLimitsAreTrackedPerIdentity() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 16);
+        MCPGateway gateway = gateway();
+        gateway.setClientRateLimitPerSecond(1);
+        gateway.setClientRateLimitBurst(1);
+
+        assertTrue(registry.tracksClients(gateway));
+        assertTrue(registry.tryAcquire(gateway, null, "basic:alice").isAdmitted());
+        RateLimiterRegistry.Admission rejected = registry.tryAcquire(gateway, null, "basic:alice");
+        assertFalse(rejected.isAdmitted());
+        assertEquals(RateLimiterRegistry.SCOPE_CLIENT, rejected.scope());
+        assertTrue(registry.tryAcquire(gateway, null, "basic:bob").isAdmitted());
+        assertEquals(2, registry.trackedClients());
+
+        registry.evictGateway(gateway.getId());
+
+        assertEquals(0, registry.trackedClients());
+    }
+
+    @Test
+    void rateRejectionRollsBackConcurrencyPermits() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 16);
+        MCPGateway gateway = gateway();
+        gateway.setMaxConcurrentCalls(5);
+        GatewayToolRoute limited = route(1, 1);
+
+        RateLimiterRegistry.Admission first = registry.tryAcquire(gateway, limited, null);
+        assertTrue(first.isAdmitted());
+        RateLimiterRegistry.Admission rejected = registry.tryAcquire(gateway, limited, null);
+        assertFalse(rejected.isAdmitted());
+        assertEquals(RateLimiterRegistry.SCOPE_TOOL, rejected.scope());
+        first.release();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(registry.tryAcquire(gateway, route(null, null), null).isAdmitted());
+        }
+        assertFalse(registry.tryAcquire(gateway, route(null, null), null).isAdmitted());
+    }
+
+    @Test
+    void clientRejectionLeavesGatewayBucketUntouched() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 16);
+        MCPGateway gateway = gateway();
+        gateway.setRateLimitPerSecond(1);
+        gateway.setRateLimitBurst(2);
+        gateway.setClientRateLimitPerSecond(1);
+        gateway.setClientRateLimitBurst(1);
+
+        assertTrue(registry.tryAcquire(gateway, null, "basic:alice").isAdmitted());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(RateLimiterRegistry.SCOPE_CLIENT, registry.tryAcquire(gateway, null, "basic:alice").scope());
+        }
+
+        assertTrue(registry.tryAcquire(gateway, null, "basic:bob").isAdmitted());
+        assertEquals(RateLimiterRegistry.SCOPE_GATEWAY, registry.tryAcquire(gateway, null, "basic:carol").scope());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedClientsWhenAllAreActive() {
+        RateLimiterRegistry registry = new RateLimiterRegistry(100, 2);
+        MCPGateway gateway = gateway();
+        gateway.setClientMaxConcurrentCalls(1);
+
+        RateLimiterRegistry.Admission alice = registry.tryAcquire(gateway, null, "basic:alice");
+        RateLimiterRegistry.Admission bob = registry.tryAcquire(gateway, null, "basic:bob");
+        RateLimiterRegistry.Admission carol = registry.tryAcquire(gateway, null, "basic:carol");
+
+        assertTrue(alice.holdsPermits() && bob.holdsPermits() && carol.holdsPermits());
+        assertTrue(registry.trackedClients() <= 2);
+        assertFalse(registry.tryAcquire(gateway, null, "basic:carol").isAdmitted());
+    }
+
+    private static MCPGateway gateway() {
+        MCPGateway gateway = new MCPGateway();
+        gateway.setId("gateway-1");
+        return gateway;
+    }
+
+    private static GatewayToolRoute route(Integer ratePerSecond, Integer burst) {
+        GatewayToolRef ref = new GatewayToolRef("server-1", "ticket");
+        ref.setRateLimitPerSecond(ratePerSecond);
+        ref.setRateLimitBurst(burst);
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        Tool tool = new Tool();
+        tool.setName("ticket");
+        return new GatewayToolRoute(ref, server, List.of(), tool, null);
+    }
+}
@@ -0,0 +1,107 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.MCPServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReplicaBalancerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaBalancer balancer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        balancer = new ReplicaBalancer(meterRegistry, 2, 60_000);
+    }
+
+    @Test
+    void expandsReplicasIntoEndpoints() {
+        List<BackendTarget> targets = BackendTarget.endpoints(server("primary:8080", "replica-1:8081", "bad", "[::1]:9090"));
+
+        assertEquals(3, targets.size());
+        assertEquals("primary:8080", targets.get(0).key);
+        assertEquals("replica-1:8081", targets.get(1).key);
+        assertEquals("::1", targets.get(2).host);
+        assertEquals("/mcp", targets.get(2).path);
+    }
+
+    @Test
+    void prefersEndpointWithFewerOutstandingRequests() {
+        List<BackendTarget> targets = BackendTarget.endpoints(server("primary:8080", "replica-1:8080"));
+        ReplicaBalancer.Endpoint busy = balancer.select("server-1", targets, null);
+        busy.start();
+
+        for (int i = 0; i < 20; i++) {
+            assertNotEquals(busy.target().key, balancer.select("server-1", targets, null).target().key);
+        }
+    }
+
+    @Test
+    void keepsSessionOnSameEndpoint() {
+        List<BackendTarget> targets = BackendTarget.endpoints(server("primary:8080", "replica-1:8080", "replica-2:8080"));
+        ReplicaBalancer.Endpoint first = balancer.select("server-1", targets, "session-abc");
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(first, balancer.select("server-1", targets, "session-abc"));
+        }
+    }
+
+    @Test
+    void ejectsEndpointAfterConsecutiveFailures() {
+        List<BackendTarget> targets = BackendTarget.endpoints(server("primary:8080", "replica-1:8080"));
+        ReplicaBalancer.Endpoint failing = balancer.select("server-1", targets, "session-abc");
+        for (int i = 0; i < 2; i++) {
+            failing.start();
+            failing.finish(false);
+        }
+
+        assertNotEquals(failing.target().key, balancer.select("server-1", targets, "session-abc").target().key);
+        assertEquals(1.0, meterRegistry.get("mcp.upstream.replica.ejected")
+                .tag("endpoint", failing.target().key).gauge().value());
+    }
+
+    @Test
+    void alternateAvoidsExcludedEndpoint() {
+        List<BackendTarget> targets = BackendTarget.endpoints(server("primary:8080", "replica-1:8080", "replica-2:8080"));
+        ReplicaBalancer.Endpoint primary = balancer.select("server-1", targets, "session-abc");
+
+        for (int i = 0; i < 20; i++) {
+            assertNotEquals(primary, balancer.selectAlternate("server-1", targets, primary));
+        }
+        List<BackendTarget> single = BackendTarget.endpoints(server("primary:8080"));
+        ReplicaBalancer.Endpoint only = balancer.select("server-1", single, null);
+        assertSame(only, balancer.selectAlternate("server-1", single, only));
+    }
+
+    @Test
+    void rebuildsWhenReplicasChange() {
+        ReplicaBalancer.Endpoint before = balancer.select("server-1",
+                BackendTarget.endpoints(server("primary:8080", "replica-1:8080")), "session-abc");
+        balancer.select("server-1", BackendTarget.endpoints(server("primary:8080")), null);
+
+        assertEquals(0, meterRegistry.find("mcp.upstream.replica.outstanding").gauges().size());
+        assertNotEquals(before, balancer.select("server-1",
+                BackendTarget.endpoints(server("primary:8080", "replica-1:8080")), "session-abc"));
+        assertNull(balancer.select("server-1", List.of(), null));
+    }
+
+    private static MCPServer server(String primary, String... replicas) {
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setHost(primary.substring(0, primary.indexOf(':')));
+        server.setPort(Integer.parseInt(primary.substring(primary.indexOf(':') + 1)));
+        server.setProtocol("HTTP");
+        server.setReplicas(List.of(replicas));
+        return server;
+    }
+}
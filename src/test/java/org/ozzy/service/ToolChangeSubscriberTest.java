@@ -0,0 +1,124 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+class ToolChangeSubscriberTest {
+
+    private static final String LIST_CHANGED = "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/tools/list_changed\"}";
+
+    @Test
+    void emitsOnlyCompleteEvents() {
+        ToolChangeSubscriber.EventBuffer buffer = new ToolChangeSubscriber.EventBuffer(1024);
+        List<String> events = new ArrayList<>();
+
+        assertTrue(buffer.append(bytes("event: message\ndata: " + LIST_CHANGED), events::add));
+        assertTrue(events.isEmpty());
+        assertTrue(buffer.append(bytes("\n\ndata: {\"id\":1}\r\n\r\n: keep-alive\n\n"), events::add));
+
+        assertEquals(List.of(LIST_CHANGED, "{\"id\":1}"), events);
+    }
+
+    @Test
+    void decodesMultiByteCharactersSplitAcrossChunks() {
+        ToolChangeSubscriber.EventBuffer buffer = new ToolChangeSubscriber.EventBuffer(1024);
+        List<String> events = new ArrayList<>();
+        byte[] event = bytes("data: {\"name\":\"m\u00e9t\u00e9o \u2603\"}\n\n");
+
+        for (int i = 0; i < event.length; i++) {
+            assertTrue(buffer.append(Arrays.copyOfRange(event, i, i + 1), events::add));
+        }
+
+        assertEquals(List.of("{\"name\":\"m\u00e9t\u00e9o \u2603\"}"), events);
+    }
+
+    @Test
+    void handlesCarriageReturnSplitFromLineFeed() {
+        ToolChangeSubscriber.EventBuffer buffer = new ToolChangeSubscriber.EventBuffer(1024);
+        List<String> events = new ArrayList<>();
+
+        buffer.append(bytes("data: a\r\n\r"), events::add);
+        assertTrue(events.isEmpty());
+        buffer.append(bytes("\ndata: b\r\r\n"), events::add);
+
+        assertEquals(List.of("a", "b"), events);
+    }
+
+    @Test
+    void rejectsEventsLargerThanTheCap() {
+        ToolChangeSubscriber.EventBuffer buffer = new ToolChangeSubscriber.EventBuffer(64);
+        List<String> events = new ArrayList<>();
+
+        assertTrue(buffer.append(bytes("data: " + "x".repeat(40)), events::add));
+        assertFalse(buffer.append(bytes("x".repeat(40)), events::add));
+
+        assertTrue(buffer.append(bytes("data: small\n\n"), events::add));
+        assertEquals(List.of("small"), events);
+    }
+
+    @Test
+    void backsOffUnsupportedServersUpToTheCap() {
+        assertEquals(15_000, ToolChangeSubscriber.retryDelayMillis(15_000, 900_000, 1));
+        assertEquals(30_000, ToolChangeSubscriber.retryDelayMillis(15_000, 900_000, 2));
+        assertEquals(120_000, ToolChangeSubscriber.retryDelayMillis(15_000, 900_000, 4));
+        assertEquals(900_000, ToolChangeSubscriber.retryDelayMillis(15_000, 900_000, 10));
+        assertEquals(900_000, ToolChangeSubscriber.retryDelayMillis(15_000, 900_000, 100));
+    }
+
+    @Test
+    void keepsSubscriptionOnlyWhileItsEndpointIsUnchanged() {
+        ToolChangeSubscriber subscriber = new ToolChangeSubscriber();
+        subscriber.validationService = new ToolValidationService();
+        MCPServer server = server();
+
+        MCPServer renamed = server();
+        renamed.setName("renamed");
+        renamed.setTools(List.of(new Tool()));
+        assertTrue(subscriber.sameEndpoint(server, renamed));
+
+        MCPServer moved = server();
+        moved.setRemotePath("/other");
+        assertFalse(subscriber.sameEndpoint(server, moved));
+
+        MCPServer reheadered = server();
+        reheadered.setHeaders(Map.of("X-Tenant", "b"));
+        assertFalse(subscriber.sameEndpoint(server, reheadered));
+
+        MCPServer repinned = server();
+        repinned.setCertificate("other");
+        assertFalse(subscriber.sameEndpoint(server, repinned));
+
+        MCPServer replicated = server();
+        replicated.setReplicas(List.of("b.example:8080"));
+        assertFalse(subscriber.sameEndpoint(server, replicated));
+
+        assertFalse(subscriber.sameEndpoint(server, null));
+    }
+
+    private static MCPServer server() {
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setName("Server");
+        server.setHost("a.example");
+        server.setPort(8080);
+        server.setProtocol("HTTP");
+        server.setHeaders(Map.of("X-Tenant", "a"));
+        server.setCertificate("pinned");
+        return server;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.GatewayToolRef;
+import org.ozzy.model.MCPServer;
+import org.ozzy.model.Tool;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.buffer.Buffer;
+
+class ToolResponseCacheTest {
+
+    private static final String RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":{\"content\":[{\"type\":\"text\",\"text\":\"ok\"}]}}";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ToolResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ToolResponseCache(meterRegistry, MAPPER, 1024, 4096);
+    }
+
+    @Test
+    void ignoresToolsWithoutTtl() {
+        assertNull(cache.key("gateway-1", route(null, "fp-1"), call(1, "{\"q\":\"a\"}")));
+    }
+
+    @Test
+    void servesCachedResultForEquivalentArguments() {
+        GatewayToolRoute route = route(60L, "fp-1");
+        ToolResponseCache.Key first = cache.key("gateway-1", route, call(1, "{\"q\":\"a\",\"limit\":10}"));
+        assertNull(cache.get(first));
+        assertTrue(cache.put(first, Buffer.buffer(RESPONSE)));
+
+        ToolResponseCache.Key reordered = cache.key("gateway-1", route, call(2, "{\"limit\":10.0,\"q\":\"a\"}"));
+        byte[] cached = cache.get(reordered);
+
+        assertNotNull(cached);
+        assertArrayEquals("{\"content\":[{\"type\":\"text\",\"text\":\"ok\"}]}".getBytes(StandardCharsets.UTF_8), cached);
+        assertNull(cache.get(cache.key("gateway-1", route, call(3, "{\"q\":\"b\"}"))));
+        assertEquals(1.0, meterRegistry.get("mcp.tool.cache.request.count").tag("result", "hit").counter().count());
+        assertEquals(1.0 / 3, meterRegistry.get("mcp.tool.cache.hit.ratio").gauge().value(), 0.0001);
+    }
+
+    @Test
+    void skipsErrorsAndOversizedResults() {
+        ToolResponseCache.Key key = cache.key("gateway-1", route(60L, "fp-1"), call(1, "{}"));
+
+        assertFalse(cache.put(key, Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-1}}")));
+        assertFalse(cache.put(key, Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"isError\":true}}")));
+        assertFalse(cache.put(key, Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + "x".repeat(2048) + "\"}")));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void invalidatesWhenApprovedFingerprintChanges() {
+        ToolResponseCache.Key before = cache.key("gateway-1", route(60L, "fp-1"), call(1, "{}"));
+        cache.put(before, Buffer.buffer(RESPONSE));
+
+        assertNull(cache.get(cache.key("gateway-1", route(60L, "fp-2"), call(1, "{}"))));
+        assertNull(cache.get(cache.key("gateway-1", route(60L, "fp-1"), call(1, "{}"))));
+        assertEquals(1.0, meterRegistry.get("mcp.tool.cache.eviction.count").tag("reason", "invalidated").counter().count());
+        assertEquals(0.0, meterRegistry.get("mcp.tool.cache.bytes").gauge().value());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenOverBudget() {
+        GatewayToolRoute route = route(60L, "fp-1");
+        for (int i = 0; i < 40; i++) {
+            cache.put(cache.key("gateway-1", route, call(i, "{\"n\":" + i + "}")), Buffer.buffer(RESPONSE));
+            assertNotNull(cache.get(cache.key("gateway-1", route, call(i, "{\"n\":0}"))));
+        }
+
+        assertNotNull(cache.get(cache.key("gateway-1", route, call(1, "{\"n\":0}"))));
+        assertNull(cache.get(cache.key("gateway-1", route, call(1, "{\"n\":1}"))));
+        assertTrue(meterRegistry.get("mcp.tool.cache.bytes").gauge().value() <= 4096);
+        assertTrue(meterRegistry.get("mcp.tool.cache.eviction.count").tag("reason", "size").counter().count() > 0);
+    }
+
+    private static String call(int id, String arguments) {
+        Buffer body = Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":" + id
+                + ",\"method\":\"tools/call\",\"params\":{\"name\":\"search\",\"arguments\":" + arguments + "}}");
+        try {
+            return JsonRpcEnvelope.parse(MAPPER, body).argumentsHash(MAPPER);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static GatewayToolRoute route(Long ttlSeconds, String fingerprint) {
+        GatewayToolRef ref = new GatewayToolRef("server-1", "search");
+        ref.setCacheTtlSeconds(ttlSeconds);
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        Tool tool = new Tool();
+        tool.setName("search");
+        tool.setFingerprint(fingerprint);
+        return new GatewayToolRoute(ref, server, List.of(), tool, null);
+    }
+}
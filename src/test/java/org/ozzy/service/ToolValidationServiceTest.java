@@ -1,28 +1,43 @@
 package org.ozzy.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.ozzy.model.GatewayToolRef;
 import org.ozzy.model.InputSchema;
+import org.ozzy.model.MCPGateway;
 import org.ozzy.model.MCPServer;
 import org.ozzy.model.Tool;
+import org.ozzy.util.ToolFingerprintUtil;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class ToolValidationServiceTest {
 
     private TestToolValidationService service;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         service = new TestToolValidationService();
-        service.setMeterRegistry(new SimpleMeterRegistry());
+        service.setMeterRegistry(meterRegistry);
     }
 
     @Test
@@ -75,6 +90,315 @@ class ToolValidationServiceTest {
         assertTrue(service.validateToolFingerprint("gateway-1", ref, server, "weather"));
     }
 
+    @Test
+    void coalescesConcurrentValidationsOfSameTool() throws Exception {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+        GatewayToolRef ref = new GatewayToolRef("server-1", "weather");
+
+        CountDownLatch release = new CountDownLatch(1);
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        service.blockFetchesUntil(release);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> service.validateToolFingerprint("gateway-1", ref, server, "weather"), callers);
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> service.validateToolFingerprint("gateway-1", ref, server, "weather"), callers);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (coalescedCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        assertTrue(first.get(5, TimeUnit.SECONDS));
+        assertTrue(second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, service.fetchCount());
+        assertEquals(1.0, coalescedCount());
+        callers.shutdown();
+    }
+
+    @Test
+    void backgroundRevalidationDoesNotHoldAnExecutorThreadWhileCoalesced() throws Exception {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+        GatewayToolRef periodic = new GatewayToolRef("server-1", "weather");
+        periodic.setValidationMode("PER_TIME_PERIOD");
+        periodic.setValidationPeriodSeconds(3600L);
+
+        ValidationExecutor executor = new ValidationExecutor();
+        executor.meterRegistry = meterRegistry;
+        executor.threads = 1;
+        executor.queueSize = 4;
+        executor.init();
+        service.validationExecutor = executor;
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        assertTrue(service.validateToolFingerprint("gateway-1", periodic, server, "weather"));
+
+        CountDownLatch release = new CountDownLatch(1);
+        service.blockFetchesUntil(release);
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> service.validateToolFingerprint(
+                "gateway-2", new GatewayToolRef("server-1", "weather"), server, "weather"), callers);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (service.fetchCount() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, service.revalidateServer("server-1"));
+        while (coalescedCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("free", executor.submit(() -> "free").get(1, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        assertEquals(2, service.fetchCount());
+        callers.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    void coalescedAsyncValidationsHoldOneExecutorThread() throws Exception {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+        GatewayToolRef ref = new GatewayToolRef("server-1", "weather");
+        GatewayToolRoute route = new GatewayToolRoute(ref, server, List.of(), stored,
+                ToolValidationService.resolveValidationPolicy(ref));
+
+        ValidationExecutor executor = new ValidationExecutor();
+        executor.meterRegistry = meterRegistry;
+        executor.threads = 2;
+        executor.queueSize = 4;
+        executor.init();
+        service.validationExecutor = executor;
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+
+        CountDownLatch release = new CountDownLatch(1);
+        service.blockFetchesUntil(release);
+        List<CompletableFuture<Boolean>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(service.validateToolFingerprintAsync("gateway-1", route));
+        }
+
+        assertEquals(7.0, coalescedCount());
+        assertEquals("free", executor.submit(() -> "free").get(1, TimeUnit.SECONDS));
+
+        release.countDown();
+        for (CompletableFuture<Boolean> caller : callers) {
+            assertTrue(caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, service.fetchCount());
+        executor.shutdown();
+    }
+
+    @Test
+    void servesCachedVerdictWithoutTheExecutorAndFailsMissesWhenSaturated() throws Exception {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+        GatewayToolRef periodic = periodicRef("weather");
+        GatewayToolRoute cachedRoute = new GatewayToolRoute(periodic, server, List.of(), stored,
+                ToolValidationService.resolveValidationPolicy(periodic));
+        GatewayToolRef perInvocation = new GatewayToolRef("server-1", "weather");
+        GatewayToolRoute missRoute = new GatewayToolRoute(perInvocation, server, List.of(), stored,
+                ToolValidationService.resolveValidationPolicy(perInvocation));
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        assertTrue(service.validateToolFingerprint("gateway-1", periodic, server, "weather"));
+
+        ValidationExecutor executor = new ValidationExecutor();
+        executor.meterRegistry = meterRegistry;
+        executor.threads = 1;
+        executor.queueSize = 1;
+        executor.init();
+        service.validationExecutor = executor;
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> awaitQuietly(release));
+        executor.submit(() -> awaitQuietly(release));
+
+        CompletableFuture<Boolean> cached = service.validateToolFingerprintAsync("gateway-1", cachedRoute);
+        CompletableFuture<Boolean> miss = service.validateToolFingerprintAsync("gateway-2", missRoute);
+
+        assertTrue(cached.isDone() && cached.join());
+        assertTrue(miss.isCompletedExceptionally());
+        ExecutionException failure = assertThrows(ExecutionException.class, miss::get);
+        assertTrue(failure.getCause() instanceof RejectedExecutionException);
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void prunesValidationStatesOfRemovedRefsAndGateways() {
+        Tool weather = buildTool("weather", "returns weather", "string");
+        Tool news = buildTool("news", "returns news", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setHost("localhost");
+        server.setPort(8080);
+        server.setTools(List.of(weather, news));
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string"),
+                buildTool("news", "returns news", "string")));
+        MCPGateway gateway = new MCPGateway("Gateway");
+        gateway.setTools(List.of(periodicRef("weather"), periodicRef("news")));
+        MCPGateway other = new MCPGateway("Other");
+        other.setTools(List.of(periodicRef("weather")));
+
+        assertTrue(service.validateToolFingerprint(gateway.getId(), periodicRef("weather"), server, "weather"));
+        assertTrue(service.validateToolFingerprint(gateway.getId(), periodicRef("news"), server, "news"));
+        assertTrue(service.validateToolFingerprint(other.getId(), periodicRef("weather"), server, "weather"));
+        MCPRegistrySnapshot snapshot = MCPRegistrySnapshot.EMPTY.withServers(List.of(server))
+                .withGateways(List.of(gateway, other));
+        service.sync(snapshot);
+        assertEquals(3, service.trackedValidations());
+
+        gateway.setTools(List.of(periodicRef("weather")));
+        service.sync(snapshot.withGateways(List.of(gateway)));
+
+        assertEquals(1, service.trackedValidations());
+    }
+
+    @Test
+    void sharesLiveCatalogAcrossToolsOfSameServer() {
+        Tool weather = buildTool("weather", "returns weather", "string");
+        Tool news = buildTool("news", "returns news", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(weather, news));
+
+        service.catalogMaxAgeMillis = 60_000;
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string"),
+                buildTool("news", "returns news", "string")));
+
+        assertTrue(service.validateToolFingerprint("gateway-1", periodicRef("weather"), server, "weather"));
+        assertTrue(service.validateToolFingerprint("gateway-2", periodicRef("news"), server, "news"));
+        assertEquals(1, service.fetchCount());
+
+        service.evictServer("server-1");
+        assertTrue(service.validateToolFingerprint("gateway-1", periodicRef("weather"), server, "weather"));
+        assertEquals(2, service.fetchCount());
+    }
+
+    @Test
+    void perInvocationValidationBypassesSharedCatalog() {
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(buildTool("weather", "returns weather", "string")));
+
+        service.catalogMaxAgeMillis = 60_000;
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        assertTrue(service.validateToolFingerprint("gateway-1", periodicRef("weather"), server, "weather"));
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "integer")));
+
+        assertFalse(service.validateToolFingerprint("gateway-2", new GatewayToolRef("server-1", "weather"), server,
+                "weather"));
+        assertEquals(2, service.fetchCount());
+    }
+
+    @Test
+    void refreshesAccessedEntriesAheadOfExpiry() {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+
+        GatewayToolRef used = new GatewayToolRef("server-1", "weather");
+        used.setValidationMode("PER_TIME_PERIOD");
+        used.setValidationPeriodSeconds(3600L);
+        GatewayToolRef idle = new GatewayToolRef("server-1", "weather");
+        idle.setValidationMode("PER_TIME_PERIOD");
+        idle.setValidationPeriodSeconds(3600L);
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        assertTrue(service.validateToolFingerprint("gateway-1", used, server, "weather"));
+        assertTrue(service.validateToolFingerprint("gateway-2", idle, server, "weather"));
+        assertTrue(service.validateToolFingerprint("gateway-1", used, server, "weather"));
+        assertEquals(2, service.fetchCount());
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "integer")));
+        assertEquals(0, service.refreshDue(System.currentTimeMillis()));
+        assertEquals(1, service.refreshDue(System.currentTimeMillis() + 3_600_000));
+        assertEquals(3, service.fetchCount());
+
+        assertFalse(service.validateToolFingerprint("gateway-1", used, server, "weather"));
+        assertTrue(service.validateToolFingerprint("gateway-2", idle, server, "weather"));
+        assertEquals(3, service.fetchCount());
+    }
+
+    @Test
+    void revalidatesServerToolsWhenListChanges() {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(stored));
+
+        GatewayToolRef ref = new GatewayToolRef("server-1", "weather");
+        ref.setValidationMode("PER_TIME_PERIOD");
+        ref.setValidationPeriodSeconds(3600L);
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        service.markSubscribed("server-1", true);
+        assertTrue(service.validateToolFingerprint("gateway-1", ref, server, "weather"));
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "integer")));
+        assertEquals(0, service.revalidateServer("server-2"));
+        assertEquals(1, service.revalidateServer("server-1"));
+
+        assertFalse(service.validateToolFingerprint("gateway-1", ref, server, "weather"));
+        assertEquals(2, service.fetchCount());
+    }
+
+    @Test
+    void acceptsMatchingCatalogHashWithoutPerToolComparison() {
+        Tool weather = buildTool("weather", "returns weather", "string");
+        Tool news = buildTool("news", "returns news", "string");
+        MCPServer server = new MCPServer();
+        server.setId("server-1");
+        server.setTools(List.of(weather, news));
+        server.setToolCatalogHash(ToolFingerprintUtil.catalogHash(server.getTools()));
+
+        service.setRemoteTools(List.of(buildTool("news", "returns news", "string"),
+                buildTool("weather", "returns weather", "string")));
+        assertTrue(service.validateToolFingerprint("gateway-1", new GatewayToolRef("server-1", "weather"), server, "weather"));
+        assertEquals(1.0, meterRegistry.find("mcp.tool.validation.catalog.hash.count").tag("result", "match").counter().count());
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string"),
+                buildTool("news", "returns news", "integer")));
+        assertTrue(service.validateToolFingerprint("gateway-1", new GatewayToolRef("server-1", "weather"), server, "weather"));
+        assertFalse(service.validateToolFingerprint("gateway-1", new GatewayToolRef("server-1", "news"), server, "news"));
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.find("mcp.tool.validation.coalesced.count").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static GatewayToolRef periodicRef(String toolName) {
+        GatewayToolRef ref = new GatewayToolRef("server-1", toolName);
+        ref.setValidationMode("PER_TIME_PERIOD");
+        ref.setValidationPeriodSeconds(3600L);
+        return ref;
+    }
+
     private Tool buildTool(String name, String description, String type) {
         Tool tool = new Tool();
         tool.setName(name);
@@ -94,16 +418,77 @@ class ToolValidationServiceTest {
         return tool;
     }
 
+    @Test
+    void validatesEveryReplica() {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setHost("primary");
+        server.setPort(8080);
+        server.setReplicas(List.of("replica-1:8080", "replica-2:8080"));
+        server.setTools(List.of(stored));
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        service.setReplicaTools("replica-1:8080", List.of(buildTool("weather", "returns weather", "string")));
+        service.setReplicaTools("replica-2:8080", List.of(buildTool("weather", "returns weather", "string")));
+
+        assertTrue(service.validateToolFingerprintNow(server, "weather"));
+        assertEquals(3, service.fetchCount());
+    }
+
+    @Test
+    void rejectsWhenReplicaCatalogDiffers() {
+        Tool stored = buildTool("weather", "returns weather", "string");
+        MCPServer server = new MCPServer();
+        server.setHost("primary");
+        server.setPort(8080);
+        server.setReplicas(List.of("replica-1:8080"));
+        server.setTools(List.of(stored));
+
+        service.setRemoteTools(List.of(buildTool("weather", "returns weather", "string")));
+        service.setReplicaTools("replica-1:8080", List.of(buildTool("weather", "returns weather", "integer")));
+
+        assertFalse(service.validateToolFingerprintNow(server, "weather"));
+    }
+
     private static final class TestToolValidationService extends ToolValidationService {
+        private final AtomicInteger fetches = new AtomicInteger();
         private List<Tool> remoteTools;
+        private final java.util.Map<String, List<Tool>> replicaTools = new HashMap<>();
+        private CountDownLatch fetchGate;
 
         void setRemoteTools(List<Tool> remoteTools) {
             this.remoteTools = remoteTools;
         }
 
+        void setReplicaTools(String endpoint, List<Tool> tools) {
+            replicaTools.put(endpoint, tools);
+        }
+
+        void blockFetchesUntil(CountDownLatch fetchGate) {
+            this.fetchGate = fetchGate;
+        }
+
+        int fetchCount() {
+            return fetches.get();
+        }
+
         @Override
         protected List<Tool> fetchRemoteTools(MCPServer server) {
+            fetches.incrementAndGet();
+            if (fetchGate != null) {
+                try {
+                    fetchGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             return remoteTools;
         }
+
+        @Override
+        protected List<Tool> fetchRemoteTools(MCPServer server, BackendTarget endpoint) {
+            fetches.incrementAndGet();
+            return replicaTools.get(endpoint.key);
+        }
     }
 }
@@ -0,0 +1,50 @@
+package org.ozzy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ValidationExecutorTest {
+
+    private ValidationExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ValidationExecutor();
+        executor.meterRegistry = new SimpleMeterRegistry();
+        executor.threads = 1;
+        executor.queueSize = 4;
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void completesWithTaskResult() throws Exception {
+        assertEquals("ok", executor.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void completesExceptionallyWhenTaskThrowsAnError() {
+        AssertionError failure = new AssertionError("boom");
+        CompletableFuture<String> result = executor.submit(() -> {
+            throw failure;
+        });
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+    }
+}
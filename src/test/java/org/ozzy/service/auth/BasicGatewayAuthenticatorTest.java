@@ -1,5 +1,6 @@
 package org.ozzy.service.auth;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -44,4 +45,13 @@ class BasicGatewayAuthenticatorTest {
         BasicGatewayAuthenticator authenticator = new BasicGatewayAuthenticator();
         assertFalse(authenticator.authenticate(gateway, request));
     }
+
+    @Test
+    void usesUsernameAsClientIdentity() {
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        String token = Base64.getEncoder().encodeToString("user:pass".getBytes(StandardCharsets.UTF_8));
+        when(request.getHeader("Authorization")).thenReturn("Basic " + token);
+
+        assertEquals("basic:user", new BasicGatewayAuthenticator().clientIdentity(new MCPGateway(), request));
+    }
 }
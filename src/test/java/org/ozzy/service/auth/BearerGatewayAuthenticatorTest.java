@@ -1,13 +1,19 @@
 package org.ozzy.service.auth;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
 import org.junit.jupiter.api.Test;
 import org.ozzy.model.MCPGateway;
 import org.mockito.Mockito;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.vertx.core.http.HttpServerRequest;
 
 class BearerGatewayAuthenticatorTest {
@@ -21,7 +27,7 @@ class BearerGatewayAuthenticatorTest {
         HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
         when(request.getHeader("Authorization")).thenReturn("Bearer token-123");
 
-        BearerGatewayAuthenticator authenticator = new BearerGatewayAuthenticator();
+        BearerGatewayAuthenticator authenticator = new BearerGatewayAuthenticator(new ObjectMapper());
         assertTrue(authenticator.authenticate(gateway, request));
     }
 
@@ -34,7 +40,28 @@ class BearerGatewayAuthenticatorTest {
         HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
         when(request.getHeader("Authorization")).thenReturn("Bearer wrong");
 
-        BearerGatewayAuthenticator authenticator = new BearerGatewayAuthenticator();
+        BearerGatewayAuthenticator authenticator = new BearerGatewayAuthenticator(new ObjectMapper());
         assertFalse(authenticator.authenticate(gateway, request));
     }
+
+    @Test
+    void usesJwtSubjectAsClientIdentity() {
+        String claims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"agent-7\"}".getBytes(StandardCharsets.UTF_8));
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        when(request.getHeader("Authorization")).thenReturn("Bearer header." + claims + ".signature");
+
+        assertEquals("bearer:agent-7", new BearerGatewayAuthenticator(new ObjectMapper()).clientIdentity(new MCPGateway(), request));
+    }
+
+    @Test
+    void hashesOpaqueTokensForClientIdentity() {
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        when(request.getHeader("Authorization")).thenReturn("Bearer token-123");
+
+        String identity = new BearerGatewayAuthenticator(new ObjectMapper()).clientIdentity(new MCPGateway(), request);
+
+        assertTrue(identity.startsWith("token:"));
+        assertFalse(identity.contains("token-123"));
+    }
 }
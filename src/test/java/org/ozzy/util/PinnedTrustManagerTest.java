@@ -0,0 +1,111 @@
+package org.ozzy.util;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.MCPServer;
+
+class PinnedTrustManagerTest {
+
+    private static final String CERT_A = "-----BEGIN CERTIFICATE-----\n"
+            + "MIIBOjCB4aADAgECAgg422WNV3JPNjAKBggqhkjOPQQDAjARMQ8wDQYDVQQDEwZh\n"
+            + "LnRlc3QwIBcNMjYxMDE3MTM0MDIxWhgPMjEyNjA5MjMxMzQwMjFaMBExDzANBgNV\n"
+            + "BAMTBmEudGVzdDBZMBMGByqGSM49AgEGCCqGSM49AwEHA0IABOW6nzFHduR43UFB\n"
+            + "RfhUF+xsiyGXU4ZijAwriCMeP9gPBjYS1gpwenOgC8hc/A3rWq32ZSSYzeTsGl9Q\n"
+            + "lQ38rNujITAfMB0GA1UdDgQWBBSsZzeVm+wxDCU8XlmYew6cF016UDAKBggqhkjO\n"
+            + "PQQDAgNIADBFAiEAic0voL/cbg8sP1xfLjG0VqWxwhJz1SRC/uKhMiwP5GsCIBts\n"
+            + "z+Wp+dr2/jZRD9y15KsUml/q6RWkT9wkQILnmwom\n"
+            + "-----END CERTIFICATE-----\n";
+
+    private static final String CERT_B = "-----BEGIN CERTIFICATE-----\n"
+            + "MIIBOzCB4qADAgECAgkA2/47Lqv21VUwCgYIKoZIzj0EAwIwETEPMA0GA1UEAxMG\n"
+            + "Yi50ZXN0MCAXDTI2MTAxNzEzNDAyM1oYDzIxMjYwOTIzMTM0MDIzWjARMQ8wDQYD\n"
+            + "VQQDEwZiLnRlc3QwWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAAT3zI0AOZ87AG2L\n"
+            + "cL4xY0UCyBEH6+EXFFUb8sTjVrc0AQV5+vMBkxeuFPId7+uesxiBvOFvajAbeyoy\n"
+            + "rcus0XD2oyEwHzAdBgNVHQ4EFgQUkiMk5TAkUQqnlP9K+Trn2iGrKoowCgYIKoZI\n"
+            + "zj0EAwIDSAAwRQIhAPk9bw7F8lko03hKRDtEx/YZVE5bxym5GM6VmHRQbZCDAiBV\n"
+            + "WPfZEpeDgm1nAMZYixIA65wukEeer9lhV9C+vv87sA==\n"
+            + "-----END CERTIFICATE-----\n";
+
+    @Test
+    void acceptsPinnedCertificate() throws Exception {
+        PinnedTrustManager trustManager = PinnedTrustManager.fromPem(CERT_A);
+
+        assertFalse(trustManager.isEmpty());
+        assertDoesNotThrow(() -> trustManager.checkServerTrusted(chain(CERT_A), "ECDHE_ECDSA"));
+    }
+
+    @Test
+    void rejectsDifferentCertificate() throws Exception {
+        PinnedTrustManager trustManager = PinnedTrustManager.fromPem(CERT_A);
+
+        assertThrows(CertificateException.class, () -> trustManager.checkServerTrusted(chain(CERT_B), "ECDHE_ECDSA"));
+        assertThrows(CertificateException.class,
+                () -> trustManager.checkServerTrusted(chain(CERT_A + CERT_B), "ECDHE_ECDSA"));
+    }
+
+    @Test
+    void ignoresWhitespaceInStoredPem() throws Exception {
+        PinnedTrustManager trustManager = PinnedTrustManager.fromPem(CERT_A.replace("\n", "\r\n  "));
+
+        assertDoesNotThrow(() -> trustManager.checkServerTrusted(chain(CERT_A), "ECDHE_ECDSA"));
+    }
+
+    @Test
+    void rejectsEverythingWhenPemIsInvalid() throws Exception {
+        PinnedTrustManager trustManager = PinnedTrustManager.fromPem("-----BEGIN CERTIFICATE-----\n!!!\n-----END CERTIFICATE-----");
+
+        assertTrue(trustManager.isEmpty());
+        assertThrows(CertificateException.class, () -> trustManager.checkServerTrusted(chain(CERT_A), "ECDHE_ECDSA"));
+    }
+
+    @Test
+    void trustManagerIsCachedPerServer() {
+        MCPServer server = pinnedServer("server-1", CERT_A);
+
+        PinnedTrustManager cached = CertificatePinningUtil.trustManager(server);
+        assertSame(cached, CertificatePinningUtil.trustManager(pinnedServer("server-1", CERT_A)));
+        assertNull(CertificatePinningUtil.trustManager(pinnedServer("server-3", null)));
+        assertTrue(CertificatePinningUtil.validatePinnedCertificate(server));
+    }
+
+    @Test
+    void trustManagerIsReplacedWhenCertificateChangesOrServerIsEvicted() throws Exception {
+        PinnedTrustManager original = CertificatePinningUtil.trustManager(pinnedServer("server-4", CERT_A));
+
+        PinnedTrustManager changed = CertificatePinningUtil.trustManager(pinnedServer("server-4", CERT_B));
+        assertNotSame(original, changed);
+        assertDoesNotThrow(() -> changed.checkServerTrusted(chain(CERT_B), "ECDHE_ECDSA"));
+
+        CertificatePinningUtil.evict("server-4");
+        assertNotSame(changed, CertificatePinningUtil.trustManager(pinnedServer("server-4", CERT_B)));
+    }
+
+    private static X509Certificate[] chain(String pem) throws Exception {
+        return CertificateFactory.getInstance("X.509")
+                .generateCertificates(new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)))
+                .toArray(new X509Certificate[0]);
+    }
+
+    private static MCPServer pinnedServer(String id, String certificate) {
+        MCPServer server = new MCPServer();
+        server.setId(id);
+        server.setHost("localhost");
+        server.setPort(8443);
+        server.setProtocol("HTTPS");
+        server.setCertificate(certificate);
+        return server;
+    }
+}
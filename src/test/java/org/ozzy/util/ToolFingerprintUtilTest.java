@@ -2,6 +2,7 @@ package org.ozzy.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
 import java.util.List;
@@ -10,8 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.ozzy.model.InputSchema;
 import org.ozzy.model.Tool;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 class ToolFingerprintUtilTest {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Test
     void fingerprintMatchesForIdenticalTools() {
         Tool toolA = buildTool("tool-a", "desc", "string", List.of("input"));
@@ -61,6 +66,73 @@ class ToolFingerprintUtilTest {
         assertEquals("", ToolFingerprintUtil.fingerprint(null));
     }
 
+    @Test
+    void catalogHashIgnoresToolOrder() {
+        Tool toolA = buildTool("tool-a", "desc", "string", List.of("input"));
+        Tool toolB = buildTool("tool-b", "desc", "string", List.of("input"));
+
+        assertEquals(ToolFingerprintUtil.catalogHash(List.of(toolA, toolB)),
+                ToolFingerprintUtil.catalogHash(List.of(toolB, toolA)));
+    }
+
+    @Test
+    void catalogHashChangesWhenAnyToolChanges() {
+        Tool toolA = buildTool("tool-a", "desc", "string", List.of("input"));
+        Tool toolB = buildTool("tool-b", "desc", "string", List.of("input"));
+        Tool toolBChanged = buildTool("tool-b", "desc", "integer", List.of("input"));
+
+        assertNotEquals(ToolFingerprintUtil.catalogHash(List.of(toolA, toolB)),
+                ToolFingerprintUtil.catalogHash(List.of(toolA, toolBChanged)));
+    }
+
+    @Test
+    void fingerprintV2DetectsNestedSchemaChanges() throws Exception {
+        Tool toolA = buildRawTool("{\"type\":\"object\",\"properties\":{\"input\":{\"type\":\"object\","
+                + "\"properties\":{\"mode\":{\"type\":\"string\",\"enum\":[\"a\",\"b\"]}}}}}");
+        Tool toolB = buildRawTool("{\"type\":\"object\",\"properties\":{\"input\":{\"type\":\"object\","
+                + "\"properties\":{\"mode\":{\"type\":\"string\",\"enum\":[\"a\",\"c\"]}}}}}");
+
+        assertEquals(ToolFingerprintUtil.fingerprint(toolA), ToolFingerprintUtil.fingerprint(toolB));
+        assertNotEquals(ToolFingerprintUtil.fingerprint(toolA, ToolFingerprintUtil.VERSION_2),
+                ToolFingerprintUtil.fingerprint(toolB, ToolFingerprintUtil.VERSION_2));
+    }
+
+    @Test
+    void fingerprintV2IgnoresKeyOrderAndNumberFormatting() throws Exception {
+        Tool toolA = buildRawTool("{\"type\":\"object\",\"properties\":{\"n\":{\"type\":\"number\",\"maximum\":1.50}}}");
+        Tool toolB = buildRawTool("{\"properties\":{\"n\":{\"maximum\":1.5,\"type\":\"number\"}},\"type\":\"object\"}");
+
+        assertEquals(ToolFingerprintUtil.fingerprint(toolA, ToolFingerprintUtil.VERSION_2),
+                ToolFingerprintUtil.fingerprint(toolB, ToolFingerprintUtil.VERSION_2));
+    }
+
+    @Test
+    void fingerprintV2IsVersioned() throws Exception {
+        Tool tool = buildRawTool("{\"type\":\"object\",\"properties\":{\"q\":{\"type\":\"string\"}}}");
+
+        String fingerprint = ToolFingerprintUtil.fingerprint(tool, ToolFingerprintUtil.VERSION_2);
+
+        assertTrue(fingerprint.startsWith("v2:"));
+        assertEquals(ToolFingerprintUtil.VERSION_2, ToolFingerprintUtil.version(fingerprint));
+        assertEquals(ToolFingerprintUtil.VERSION_1, ToolFingerprintUtil.version(ToolFingerprintUtil.fingerprint(tool)));
+    }
+
+    @Test
+    void preferredVersionFallsBackWithoutRawSchema() throws Exception {
+        Tool legacy = buildTool("tool-a", "desc", "string", List.of("input"));
+        Tool raw = buildRawTool("{\"type\":\"object\"}");
+
+        assertEquals(ToolFingerprintUtil.VERSION_1, ToolFingerprintUtil.preferredVersion(legacy, ToolFingerprintUtil.VERSION_2));
+        assertEquals(ToolFingerprintUtil.VERSION_2, ToolFingerprintUtil.preferredVersion(raw, ToolFingerprintUtil.VERSION_2));
+        assertEquals(ToolFingerprintUtil.VERSION_1, ToolFingerprintUtil.preferredVersion(raw, ToolFingerprintUtil.VERSION_1));
+    }
+
+    private Tool buildRawTool(String schema) throws Exception {
+        Tool tool = buildTool("tool-a", "desc", "object", List.of());
+        tool.setRawInputSchema(MAPPER.readTree(schema));
+        return tool;
+    }
+
     private Tool buildTool(String name, String description, String type, List<String> required) {
         Tool tool = new Tool();
         tool.setName(name);
@@ -0,0 +1,81 @@
+package org.ozzy.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ozzy.model.Tool;
+
+import com.sun.net.httpserver.HttpServer;
+
+class ToolUtilTest {
+
+    private static final String TOOLS_LIST = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"tools\":[{"
+            + "\"name\":\"weather\",\"description\":\"returns weather\",\"inputSchema\":{"
+            + "\"type\":\"object\",\"properties\":{\"days\":{\"type\":\"integer\",\"minimum\":1}},"
+            + "\"required\":[\"days\"]}}]}}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/mcp", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = TOOLS_LIST.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void discoversRawSchemaWithoutHeadersOrPinning() {
+        List<Tool> tools = new ToolUtil().getTools("http://127.0.0.1:" + server.getAddress().getPort() + "/mcp");
+
+        assertEquals(1, tools.size());
+        assertEquals(1, requests.get());
+        Tool tool = tools.get(0);
+        assertNotNull(tool.getRawInputSchema());
+        assertEquals(1, tool.getRawInputSchema().path("properties").path("days").path("minimum").asInt());
+        assertEquals(ToolFingerprintUtil.VERSION_2,
+                ToolFingerprintUtil.preferredVersion(tool, ToolFingerprintUtil.VERSION_2));
+
+        String fingerprint = ToolFingerprintUtil.fingerprint(tool, ToolFingerprintUtil.VERSION_2);
+        assertTrue(fingerprint.startsWith("v2:"));
+        assertNotEquals(ToolFingerprintUtil.fingerprint(tool, ToolFingerprintUtil.VERSION_1), fingerprint);
+    }
+
+    @Test
+    void keepsBaselineTypeNamesOnlyForHeaderlessServers() {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/mcp";
+
+        Tool headerless = new ToolUtil().getTools(url).get(0);
+        Tool withHeaders = new ToolUtil().getTools(url, Map.of("X-Test", "value")).get(0);
+
+        assertEquals("Integer", headerless.getInputSchema().getProperties().get("days").getType());
+        assertEquals(List.of("days"), headerless.getInputSchema().getRequired());
+        assertEquals("integer", withHeaders.getInputSchema().getProperties().get("days").getType());
+    }
+}